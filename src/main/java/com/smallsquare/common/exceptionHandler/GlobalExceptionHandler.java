@@ -1,7 +1,15 @@
 package com.smallsquare.common.exceptionHandler;
 
+import com.smallsquare.infrastructure.ratelimit.RateLimitExceededException;
+import com.smallsquare.modules.comment.exception.errorCode.CommentErrorCode;
+import com.smallsquare.modules.comment.exception.exception.CommentException;
+import com.smallsquare.modules.post.exception.errorCode.PostErrorCode;
+import com.smallsquare.modules.post.exception.exception.PostException;
+import com.smallsquare.modules.reaction.exception.errorCode.ReactionErrorCode;
+import com.smallsquare.modules.reaction.exception.exception.ReactionException;
 import com.smallsquare.modules.user.exception.errorCode.UserErrorCode;
 import com.smallsquare.modules.user.exception.exception.UserException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -28,6 +36,34 @@ public class GlobalExceptionHandler {
                 .body(errorCode.getMessage());
     }
 
+    @ExceptionHandler(PostException.class)
+    public ResponseEntity<String> handlePostException(PostException ex) {
+        PostErrorCode errorCode = ex.getErrorCode();
+        return ResponseEntity.status(errorCode.getStatus())
+                .body(errorCode.getMessage());
+    }
+
+    @ExceptionHandler(ReactionException.class)
+    public ResponseEntity<String> handleReactionException(ReactionException ex) {
+        ReactionErrorCode errorCode = ex.getErrorCode();
+        return ResponseEntity.status(errorCode.getStatus())
+                .body(errorCode.getMessage());
+    }
+
+    @ExceptionHandler(CommentException.class)
+    public ResponseEntity<String> handleCommentException(CommentException ex) {
+        CommentErrorCode errorCode = ex.getErrorCode();
+        return ResponseEntity.status(errorCode.getStatus())
+                .body(errorCode.getMessage());
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<String> handleRateLimitExceededException(RateLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getResult().getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleValidationException(MethodArgumentNotValidException ex) {
         List<String> errors = ex.getBindingResult().getFieldErrors()
@@ -0,0 +1,11 @@
+package com.smallsquare.infrastructure.cache;
+
+// @Cacheable / @CacheEvict에서 사용하는 캐시 이름
+public final class CacheNames {
+
+    // 내 정보 조회 (UserInfoResDto), key: userId
+    public static final String USER_INFO = "userInfo";
+
+    private CacheNames() {
+    }
+}
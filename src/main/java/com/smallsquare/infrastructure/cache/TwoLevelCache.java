@@ -0,0 +1,164 @@
+package com.smallsquare.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 로컬(Caffeine) + Redis 2단계 캐시
+ * 1. 조회: 로컬 -> Redis -> 원본 로딩 (Redis에서 찾으면 로컬에 채움)
+ * 2. 저장: 로컬 + Redis 모두 저장
+ * 3. 삭제: 로컬 + Redis 모두 삭제 후, 다른 서버의 로컬 캐시도 지우도록 메시지 발행
+ * 로컬 키는 Redis 캐시 키와 같은 문자열 형태로 통일 (다른 서버에서 받은 삭제 메시지의 키와 비교하기 위함)
+ * null 값은 캐시하지 않음
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+
+    // 삭제된 키를 다른 서버에 알림 (null이면 전체 삭제)
+    private final Consumer<String> evictionPublisher;
+
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+    private final Timer loadTimer;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache remoteCache,
+                         Consumer<String> evictionPublisher,
+                         MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.evictionPublisher = evictionPublisher;
+        this.localHits = requests(meterRegistry, name, "local");
+        this.remoteHits = requests(meterRegistry, name, "remote");
+        this.misses = requests(meterRegistry, name, "miss");
+        this.loadTimer = Timer.builder("cache.two-level.load")
+                .description("캐시 미스 시 원본 로딩 시간")
+                .tag("cache", name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = keyOf(key);
+
+        // 1. 로컬 캐시
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        // 2. Redis 캐시 (찾으면 로컬에 채움)
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            remoteHits.increment();
+            localCache.put(localKey, wrapper.get());
+            return wrapper.get();
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * @Cacheable(sync = true)에서 사용
+     * 같은 서버에서 같은 키를 동시에 요청하면 원본 로딩은 한 번만 실행
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        return (T) localCache.get(keyOf(key), localKey -> {
+            long start = System.nanoTime();
+            try {
+                T loaded = valueLoader.call();
+                if (loaded != null) {
+                    remoteCache.put(key, loaded);
+                }
+                return loaded;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            } finally {
+                loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        localCache.put(keyOf(key), value);
+        remoteCache.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = keyOf(key);
+        localCache.invalidate(localKey);
+        remoteCache.evict(key);
+        evictionPublisher.accept(localKey);
+    }
+
+    @Override
+    public void clear() {
+        localCache.invalidateAll();
+        remoteCache.clear();
+        evictionPublisher.accept(null);
+    }
+
+    /**
+     * 다른 서버에서 삭제된 키를 로컬 캐시에서만 삭제 (Redis는 이미 삭제됨)
+     * @param localKey null이면 전체 삭제
+     */
+    public void evictLocal(String localKey) {
+        if (localKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    private static String keyOf(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("cache.two-level.requests")
+                .description("캐시 조회 결과 (local: 로컬 적중, remote: Redis 적중, miss: 원본 로딩)")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
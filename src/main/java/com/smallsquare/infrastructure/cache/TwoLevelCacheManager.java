@@ -0,0 +1,106 @@
+package com.smallsquare.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TwoLevelCache를 만들고, 다른 서버의 캐시 삭제 메시지를 받아 로컬 캐시에 반영하는 CacheManager
+ * 메시지 형식: {서버 id}|{캐시 이름}|{키} (키가 비어 있으면 전체 삭제)
+ * 자기 자신이 보낸 메시지는 무시 (이미 로컬에서 삭제함)
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    public static final String EVICTION_CHANNEL = "channel:cache:evict";
+
+    private static final String DELIMITER = "|";
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    /**
+     * @param localMaximumSize 캐시별 로컬 최대 개수
+     * @param localTtl         로컬 캐시 유지 시간 (삭제 메시지가 유실돼도 이 시간 뒤에는 Redis 값으로 갱신)
+     */
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry,
+                                long localMaximumSize,
+                                Duration localTtl) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+    }
+
+    // 캐시는 처음 사용할 때 생성
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return twoLevelCaches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = twoLevelCaches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        // 로컬 캐시 적중률, 크기, 제거 횟수 메트릭 (cache.gets, cache.size, cache.evictions ...)
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, "tier", "local");
+
+        return new TwoLevelCache(name, localCache, redisCacheManager.getCache(name),
+                key -> publishEviction(name, key), meterRegistry);
+    }
+
+    private void publishEviction(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL,
+                    nodeId + DELIMITER + cacheName + DELIMITER + (key == null ? "" : key));
+        } catch (Exception e) {
+            // 발행에 실패해도 다른 서버의 로컬 캐시는 localTtl 뒤에 만료됨
+            log.warn("캐시 삭제 메시지 발행 실패 cache={}, key={}", cacheName, key, e);
+        }
+    }
+}
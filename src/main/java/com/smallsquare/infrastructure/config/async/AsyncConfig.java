@@ -0,0 +1,28 @@
+package com.smallsquare.infrastructure.config.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 작업 설정
+ * 실행기는 Spring Boot 기본 applicationTaskExecutor를 그대로 사용
+ * (VIRTUAL_THREADS_ENABLED=true면 작업마다 가상 스레드, 아니면 스레드 풀)
+ * 사용처 : 게시글 검색 인덱스 재구성(PostSearchIndexManager.rebuild), 기동 시 블랙리스트 필터 구성(AccessTokenBlacklist.warmUp)
+ * 메일 발송(MailOutboxWorker), 비밀번호 해시(ExecutorPasswordEncoder)는 대기열/동시 실행 수를 따로 제한하므로 전용 실행기 사용
+ */
+@Slf4j
+@Configuration
+// 인터페이스를 구현한 빈(AccessTokenBlacklist 등)도 클래스 타입으로 주입받으므로 클래스 기반 프록시 사용
+@EnableAsync(proxyTargetClass = true)
+public class AsyncConfig implements AsyncConfigurer {
+
+    // 반환값 없는 @Async 메서드의 예외는 호출자에게 전달되지 않으므로 로그로 남김
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("비동기 작업 실패 method={}", method.getDeclaringClass().getSimpleName() + "." + method.getName(), ex);
+    }
+}
@@ -0,0 +1,81 @@
+package com.smallsquare.infrastructure.config.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smallsquare.infrastructure.cache.CacheNames;
+import com.smallsquare.infrastructure.cache.TwoLevelCacheManager;
+import com.smallsquare.modules.user.web.dto.response.UserInfoResDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.time.Duration;
+
+/**
+ * 로컬(Caffeine) + Redis 2단계 캐시 설정
+ * 트랜잭션 안에서 @CacheEvict 하면 커밋 이후에 삭제 (커밋 전 값이 다시 캐시되지 않도록)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${CACHE_LOCAL_MAX_SIZE:10000}") long localMaximumSize,
+                                     @Value("${CACHE_LOCAL_TTL_SECONDS:60}") long localTtlSeconds,
+                                     @Value("${CACHE_REDIS_TTL_MINUTES:30}") long redisTtlMinutes) {
+
+        // 1. Redis 캐시 (키: cache:{캐시 이름}::{키})
+        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(redisTtlMinutes))
+                .prefixCacheNameWith("cache:")
+                .disableCachingNullValues();
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                .cacheDefaults(defaultConfig)
+                .withCacheConfiguration(CacheNames.USER_INFO,
+                        defaultConfig.serializeValuesWith(jsonOf(UserInfoResDto.class)))
+                .build();
+        redisCacheManager.initializeCaches();
+
+        // 2. 로컬 캐시 + Redis 캐시
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager,
+                stringRedisTemplate,
+                meterRegistry,
+                localMaximumSize,
+                Duration.ofSeconds(localTtlSeconds)
+        );
+        cacheManager.setTransactionAware(true);
+
+        // 3. 다른 서버의 캐시 삭제 메시지 구독
+        redisMessageListenerContainer.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.EVICTION_CHANNEL));
+        return cacheManager;
+    }
+
+    // setter 없는 DTO도 필드로 직렬화/역직렬화
+    private static <T> SerializationPair<T> jsonOf(Class<T> type) {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .findAndRegisterModules();
+        return SerializationPair.fromSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, type));
+    }
+}
@@ -1,33 +1,90 @@
 package com.smallsquare.infrastructure.config.redis;
 
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
 
 @Configuration
 public class RedisConfig {
 
-    // Redis와 스프링을 TCP로 연결해주는 객체 (Lettuce 클라이언트 기반으로 연결)
+    /**
+     * Redis와 스프링을 TCP로 연결해주는 객체 (Lettuce 클라이언트 기반으로 연결)
+     * 1. host, port, password, database는 spring.data.redis (yml) 참조
+     * 2. 명령 하나가 REDIS_COMMAND_TIMEOUT_MS를 넘으면 실패 처리 (스레드가 무한정 대기하지 않도록)
+     * 3. 연결이 끊긴 동안 들어온 명령은 쌓아두지 않고 바로 실패 (재연결은 자동)
+     * 4. 하나의 네이티브 연결을 모든 스레드가 공유 (Lettuce 연결은 thread-safe, 명령은 응답을 기다리지 않고 연속 전송)
+     * 5. executePipelined는 REDIS_PIPELINE_FLUSH_SIZE개마다 모아서 전송
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(); // host, port는 yml 참조
+    public LettuceConnectionFactory redisConnectionFactory(RedisProperties redisProperties,
+                                                           @Value("${REDIS_CONNECT_TIMEOUT_MS:1000}") long connectTimeoutMs,
+                                                           @Value("${REDIS_COMMAND_TIMEOUT_MS:1000}") long commandTimeoutMs,
+                                                           @Value("${REDIS_PIPELINE_FLUSH_SIZE:64}") int pipelineFlushSize) {
+        RedisStandaloneConfiguration serverConfig = new RedisStandaloneConfiguration(
+                redisProperties.getHost(), redisProperties.getPort());
+        serverConfig.setDatabase(redisProperties.getDatabase());
+        serverConfig.setUsername(redisProperties.getUsername());
+        serverConfig.setPassword(RedisPassword.of(redisProperties.getPassword()));
+
+        ClientOptions clientOptions = ClientOptions.builder()
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                        .keepAlive(true)
+                        .build())
+                .timeoutOptions(TimeoutOptions.enabled(Duration.ofMillis(commandTimeoutMs)))
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .autoReconnect(true)
+                .build();
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfig = LettuceClientConfiguration.builder()
+                .clientOptions(clientOptions)
+                .commandTimeout(Duration.ofMillis(commandTimeoutMs))
+                .shutdownTimeout(Duration.ofMillis(100));
+        if (redisProperties.getSsl().isEnabled()) {
+            clientConfig.useSsl();
+        }
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(serverConfig, clientConfig.build());
+        connectionFactory.setShareNativeConnection(true);
+        connectionFactory.setPipeliningFlushPolicy(LettuceConnection.PipeliningFlushPolicy.buffered(pipelineFlushSize));
+        return connectionFactory;
     }
 
     // Key:value를 <String, String> 객체를 생성 -> blacklist : RefreshToken ...
     @Bean
-    public RedisTemplate<String, String> redisTemplate() {
+    public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory());
+        template.setConnectionFactory(redisConnectionFactory);
         return template;
     }
 
     // 타입 캐스팅 없이 바로 <String, String>을 사용하게 해주는 메소드
     @Bean
-    public StringRedisTemplate stringRedisTemplate() {
-        return new StringRedisTemplate(redisConnectionFactory());
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    // Redis Pub/Sub 메시지를 구독하는 컨테이너 (각 컴포넌트가 필요한 채널을 직접 등록)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.smallsquare.infrastructure.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업(블랙리스트 필터 재구성 등)을 사용하기 위한 설정
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,10 +1,16 @@
 package com.smallsquare.infrastructure.config.security;
 
+import com.smallsquare.infrastructure.ratelimit.ClientIpResolver;
+import com.smallsquare.modules.user.infrastructure.auth.encoder.ExecutorPasswordEncoder;
+import com.smallsquare.modules.user.infrastructure.auth.filter.LoginRateLimitFilter;
+import com.smallsquare.modules.user.infrastructure.auth.ratelimit.LoginRateLimiter;
 import com.smallsquare.modules.user.infrastructure.jwt.JwtUtil;
 import com.smallsquare.modules.user.infrastructure.auth.filter.JwtFilter;
+import com.smallsquare.modules.user.infrastructure.redis.AccessTokenBlacklist;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,6 +18,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -21,7 +28,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.http.HttpMethod.*;
 import static org.springframework.http.HttpMethod.GET;
@@ -33,6 +42,9 @@ import static org.springframework.security.web.util.matcher.AntPathRequestMatche
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final AccessTokenBlacklist accessTokenBlacklist;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ClientIpResolver clientIpResolver;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -42,6 +54,9 @@ public class SecurityConfig {
         // JWT 필터 설정
         configureJwtFilter(http);
 
+        // 로그인 요청 제한 필터 설정
+        configureLoginRateLimitFilter(http);
+
         // 예외 처리 설정
         configureExceptionHandling(http);
 
@@ -101,10 +116,16 @@ public class SecurityConfig {
 
     // JWT 필터 설정 추가
     private void configureJwtFilter(HttpSecurity http) throws Exception {
-        http.addFilterBefore(new JwtFilter(jwtUtil),
+        http.addFilterBefore(new JwtFilter(jwtUtil, accessTokenBlacklist),
                 UsernamePasswordAuthenticationFilter.class);
     }
 
+    // 로그인 요청 제한 필터 (JWT 필터보다 먼저 실행해서 DB 조회/BCrypt 전에 거절)
+    private void configureLoginRateLimitFilter(HttpSecurity http) throws Exception {
+        http.addFilterBefore(new LoginRateLimitFilter(loginRateLimiter, clientIpResolver),
+                JwtFilter.class);
+    }
+
     // 인증/인가 예외 처리
     private void configureExceptionHandling(HttpSecurity http) throws Exception {
         http.exceptionHandling(handling -> handling
@@ -122,6 +143,8 @@ public class SecurityConfig {
         http.authorizeHttpRequests(auth -> auth
                 .requestMatchers(permitAllRequestMatchers()).permitAll()
                 .requestMatchers(authenticatedRequestMatchers()).authenticated()
+                // 관리자 API (토큰의 role 클레임 값)
+                .requestMatchers(antMatcher("/admin/**")).hasAnyAuthority("ADMIN", "ROLE_ADMIN")
                 .anyRequest().permitAll()
         );
     }
@@ -154,8 +177,23 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
     }
 
+    /**
+     * 비밀번호 인코더
+     * 1. 새 비밀번호는 {bcrypt} 접두사 + 설정한 cost로 저장
+     * 2. 접두사 없는 기존 해시도 그대로 검증 (로그인 성공 시 upgradeEncoding으로 재해시)
+     * 3. 해시 연산은 전용 스레드 풀에서 실행 (대기열이 가득 차면 429)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${PASSWORD_BCRYPT_STRENGTH:10}") int strength,
+                                           @Value("${PASSWORD_HASH_THREADS:0}") int threads,
+                                           @Value("${PASSWORD_HASH_QUEUE_CAPACITY:64}") int queueCapacity,
+                                           @Value("${PASSWORD_HASH_TIMEOUT_MS:3000}") long timeoutMillis) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int hashThreads = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        return new ExecutorPasswordEncoder(delegatingEncoder, hashThreads, queueCapacity, Duration.ofMillis(timeoutMillis));
     }
 }
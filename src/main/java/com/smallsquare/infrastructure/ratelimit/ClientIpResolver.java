@@ -0,0 +1,44 @@
+package com.smallsquare.infrastructure.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 제한에 사용할 클라이언트 IP
+ * X-Forwarded-For는 각 프록시가 오른쪽에 추가하므로 왼쪽 값은 클라이언트가 임의로 넣을 수 있음
+ * -> 앞단의 신뢰하는 프록시 수(RATE_LIMIT_TRUSTED_PROXIES)만큼 오른쪽에서 센 값을 사용
+ * ex) 프록시 1개(nginx) : "위조값, 실제 클라이언트" -> 가장 오른쪽 값
+ * 0이면(기본) 헤더를 무시하고 소켓 주소 사용
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_HEADER = "X-Forwarded-For";
+
+    private final int trustedProxies;
+
+    public ClientIpResolver(@Value("${RATE_LIMIT_TRUSTED_PROXIES:0}") int trustedProxies) {
+        this.trustedProxies = Math.max(0, trustedProxies);
+    }
+
+    public String resolve(HttpServletRequest request) {
+        if (trustedProxies == 0) {
+            return request.getRemoteAddr();
+        }
+
+        String forwarded = request.getHeader(FORWARDED_HEADER);
+        if (forwarded == null || forwarded.isBlank()) {
+            return request.getRemoteAddr();
+        }
+
+        // 오른쪽에서 trustedProxies번째 값 (값이 부족하면 프록시를 거치지 않은 요청이므로 소켓 주소)
+        String[] hops = forwarded.split(",");
+        int index = hops.length - trustedProxies;
+        if (index < 0) {
+            return request.getRemoteAddr();
+        }
+        String clientIp = hops[index].trim();
+        return clientIp.isEmpty() ? request.getRemoteAddr() : clientIp;
+    }
+}
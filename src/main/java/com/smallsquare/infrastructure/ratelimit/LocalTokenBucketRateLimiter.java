@@ -0,0 +1,115 @@
+package com.smallsquare.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서버 메모리 토큰 버킷 (네트워크 왕복 없이 요청당 해시 1번 + 짧은 락 1번)
+ * 1. 키 해시로 stripe를 고르고 stripe 단위로만 잠그므로 서로 다른 키는 대부분 경합하지 않음
+ * 2. stripe마다 최근 사용 순서(LRU)로 최대 키 개수를 제한해서 임의의 키를 대량으로 보내도 메모리가 늘지 않음
+ *    (밀려난 버킷은 가득 찬 상태로 다시 시작하므로 maxKeysPerStripe는 동시에 제한할 키 수보다 넉넉하게 설정)
+ * 3. 락 안에서는 계산만 하고 I/O가 없으므로 가상 스레드에서도 오래 점유하지 않음
+ */
+public class LocalTokenBucketRateLimiter implements RateLimiter {
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    /**
+     * @param stripeCount      : 락 개수 (2의 거듭제곱으로 올림)
+     * @param maxKeysPerStripe : stripe당 보관할 최대 버킷 수
+     */
+    public LocalTokenBucketRateLimiter(int stripeCount, int maxKeysPerStripe) {
+        if (stripeCount <= 0 || maxKeysPerStripe <= 0) {
+            throw new IllegalArgumentException("stripeCount and maxKeysPerStripe must be positive");
+        }
+        int size = Integer.highestOneBit(stripeCount - 1) << 1;
+        size = Math.max(1, size);
+        this.stripes = new Stripe[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+    }
+
+    @Override
+    public RateLimitResult tryAcquire(String key, RateLimitPolicy policy) {
+        return tryAcquire(key, policy, System.nanoTime());
+    }
+
+    RateLimitResult tryAcquire(String key, RateLimitPolicy policy, long nowNanos) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        double refillPerNanos = policy.refillPerMillis() / 1_000_000d;
+
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(policy.getCapacity(), nowNanos);
+                stripe.buckets.put(key, bucket);
+            }
+
+            // 1. 지난 시간만큼 채우기 (capacity 초과 X)
+            long elapsed = Math.max(0, nowNanos - bucket.lastNanos);
+            bucket.tokens = Math.min(policy.getCapacity(), bucket.tokens + elapsed * refillPerNanos);
+            bucket.lastNanos = nowNanos;
+
+            // 2. 토큰 1개 차감 or 다음 토큰까지 남은 시간 반환
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return RateLimitResult.allowed();
+            }
+            long waitNanos = (long) Math.ceil((1 - bucket.tokens) / refillPerNanos);
+            return RateLimitResult.rejected(Duration.ofNanos(waitNanos));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 현재 보관 중인 버킷 수 (모니터링/테스트용)
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    // 하위 비트만 쓰므로 상위 비트를 섞어서 stripe가 고르게 분포하도록 함
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastNanos;
+
+        private Bucket(double tokens, long lastNanos) {
+            this.tokens = tokens;
+            this.lastNanos = lastNanos;
+        }
+    }
+}
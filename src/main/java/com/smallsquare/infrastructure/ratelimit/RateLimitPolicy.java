@@ -0,0 +1,30 @@
+package com.smallsquare.infrastructure.ratelimit;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 토큰 버킷 설정
+ * 최대 capacity개까지 한 번에 허용하고, period 동안 capacity개가 다시 채워짐 (일정한 속도로 1개씩)
+ * ex) capacity 5, period 15분 -> 연속 5번 허용 후 3분마다 1번
+ */
+@Getter
+public class RateLimitPolicy {
+
+    private final int capacity;
+    private final Duration period;
+
+    public RateLimitPolicy(int capacity, Duration period) {
+        if (capacity <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("capacity and period must be positive");
+        }
+        this.capacity = capacity;
+        this.period = period;
+    }
+
+    // 1ms당 채워지는 토큰 수
+    public double refillPerMillis() {
+        return (double) capacity / period.toMillis();
+    }
+}
@@ -0,0 +1,33 @@
+package com.smallsquare.infrastructure.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 요청 허용 여부 (거절이면 다음 토큰이 채워질 때까지 남은 시간)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RateLimitResult {
+
+    private static final RateLimitResult ALLOWED = new RateLimitResult(true, Duration.ZERO);
+
+    private final boolean allowed;
+    private final Duration retryAfter;
+
+    public static RateLimitResult allowed() {
+        return ALLOWED;
+    }
+
+    public static RateLimitResult rejected(Duration retryAfter) {
+        return new RateLimitResult(false, retryAfter);
+    }
+
+    // Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
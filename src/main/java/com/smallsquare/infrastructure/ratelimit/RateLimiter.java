@@ -0,0 +1,17 @@
+package com.smallsquare.infrastructure.ratelimit;
+
+/**
+ * 토큰 버킷 요청 제한
+ * 1. LocalTokenBucketRateLimiter : 서버 메모리 (서버마다 따로 계산, 추가 네트워크 비용 없음)
+ * 2. RedisTokenBucketRateLimiter : Redis (여러 서버가 같은 버킷을 공유)
+ */
+public interface RateLimiter {
+
+    /**
+     * 토큰 1개 사용 시도
+     * @param key : 제한 단위 (ex. login:ip:1.2.3.4)
+     * @param policy
+     * @return RateLimitResult
+     */
+    RateLimitResult tryAcquire(String key, RateLimitPolicy policy);
+}
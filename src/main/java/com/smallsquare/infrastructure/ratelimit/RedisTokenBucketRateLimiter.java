@@ -0,0 +1,69 @@
+package com.smallsquare.infrastructure.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 토큰 버킷 (여러 서버가 같은 버킷을 공유)
+ * 버킷 하나는 Hash(tokens, ts) 하나이고, 채우기 + 차감을 Lua로 한 번에 처리하므로 동시 요청에도 초과 허용이 없음
+ * 시각은 Redis TIME을 사용해서 서버 간 시계 차이의 영향을 받지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisTokenBucketRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // KEYS[1]: 버킷 / ARGV[1]: capacity, ARGV[2]: 1ms당 채워지는 토큰 수
+    // 반환: {허용 여부(1/0), 거절이면 다음 토큰까지 남은 ms}
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local rate = tonumber(ARGV[2]) " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(bucket[1]) or capacity " +
+            "local ts = tonumber(bucket[2]) or now " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) " +
+            "local allowed = 0 " +
+            "local wait = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 allowed = 1 " +
+            "else wait = math.ceil((1 - tokens) / rate) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate)) " +
+            "return {allowed, wait}",
+            List.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 토큰 1개 사용 시도
+     * Redis 장애 시에는 허용 (요청 제한 때문에 서비스 전체가 멈추지 않도록)
+     * @param key : 제한 단위 (ex. mail:ip:1.2.3.4)
+     * @param policy
+     * @return RateLimitResult
+     */
+    @Override
+    public RateLimitResult tryAcquire(String key, RateLimitPolicy policy) {
+        try {
+            List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(policy.getCapacity()), String.valueOf(policy.refillPerMillis()));
+            if (result == null || ((Number) result.get(0)).longValue() == 1) {
+                return RateLimitResult.allowed();
+            }
+            return RateLimitResult.rejected(Duration.ofMillis(((Number) result.get(1)).longValue()));
+        } catch (Exception e) {
+            log.warn("요청 제한 확인 실패 (허용 처리) key={}", key, e);
+            return RateLimitResult.allowed();
+        }
+    }
+}
@@ -1,4 +1,271 @@
 package com.smallsquare.modules.comment.application.service;
 
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.comment.domain.entity.Comment;
+import com.smallsquare.modules.comment.domain.repository.CommentQueryRepository;
+import com.smallsquare.modules.comment.domain.repository.CommentRepository;
+import com.smallsquare.modules.comment.exception.exception.CommentException;
+import com.smallsquare.modules.comment.web.dto.request.CreateCommentReqDto;
+import com.smallsquare.modules.comment.web.dto.response.CommentPageResDto;
+import com.smallsquare.modules.comment.web.dto.response.CommentResDto;
+import com.smallsquare.modules.post.application.service.PostActivityService;
+import com.smallsquare.modules.post.domain.entity.Post;
+import com.smallsquare.modules.post.domain.enums.PostStatus;
+import com.smallsquare.modules.post.domain.repository.PostRepository;
+import com.smallsquare.modules.post.exception.exception.PostException;
+import com.smallsquare.modules.reaction.application.service.ReactionService;
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import com.smallsquare.modules.reaction.domain.vo.ReactionTarget;
+import com.smallsquare.modules.user.domain.entity.User;
+import com.smallsquare.modules.user.domain.repository.UserRepository;
+import com.smallsquare.modules.user.exception.exception.UserException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.smallsquare.modules.comment.exception.errorCode.CommentErrorCode.*;
+import static com.smallsquare.modules.post.exception.errorCode.PostErrorCode.POST_NOT_FOUND;
+import static com.smallsquare.modules.user.exception.errorCode.UserErrorCode.USER_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class CommentService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    // 페이지 조회에서 최상위 댓글 하나당 함께 내려주는 답글 수 (나머지는 서브트리 조회로)
+    private static final int MAX_REPLIES_PER_ROOT = 50;
+
+    private final CommentRepository commentRepository;
+    private final CommentQueryRepository commentQueryRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final ReactionService reactionService;
+    private final PostActivityService postActivityService;
+
+    /**
+     * 댓글 작성
+     * @param userId
+     * @param reqDto : postId, parentId(답글이면), content
+     * @return 생성된 댓글 id
+     */
+    @Transactional
+    public Long createComment(Long userId, CreateCommentReqDto reqDto) {
+
+        // 1. User 조회
+        User user = userRepository.findById(userId).orElseThrow(() -> new UserException(USER_NOT_FOUND));
+
+        // 2. Post 조회 (삭제된 게시글 제외)
+        Post post = postRepository.findById(reqDto.getPostId())
+                .filter(found -> found.getPostStatus() == PostStatus.ACTIVE)
+                .orElseThrow(() -> new PostException(POST_NOT_FOUND));
+
+        // 3. 답글이면 부모 댓글 조회 (삭제된 댓글에는 답글 불가, 같은 게시글의 댓글이어야 함)
+        Comment parent = null;
+        if (reqDto.getParentId() != null) {
+            parent = commentRepository.findById(reqDto.getParentId())
+                    .filter(found -> !found.isDeleted())
+                    .orElseThrow(() -> new CommentException(COMMENT_NOT_FOUND));
+            if (!parent.getPost().getId().equals(post.getId())) {
+                throw new CommentException(PARENT_NOT_IN_POST);
+            }
+        }
+
+        // 4. Comment 생성 (내용 검증)
+        Comment comment = Comment.of(reqDto.getContent(), user, post, parent);
+
+        // 5. 게시글 댓글 수 +1, 인기글 점수 반영
+        // 댓글 INSERT(FK 확인으로 post 행 공유 락)보다 먼저 post 행 배타 락을 잡아야 동시 작성자끼리 데드락이 나지 않음
+        postActivityService.commentsChanged(post.getId(), 1);
+
+        // 6. 저장 후 생성된 comment_id로 path 설정 (커밋 시 UPDATE)
+        commentRepository.save(comment);
+        comment.assignPath();
+
+        return comment.getId();
+    }
+
+    /**
+     * 댓글 삭제 (답글이 남아 있을 수 있으므로 상태만 변경)
+     * @param userId
+     * @param commentId
+     */
+    @Transactional
+    public void deleteComment(Long userId, Long commentId) {
+
+        // 1. Comment 조회
+        Comment comment = commentRepository.findById(commentId)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> new CommentException(COMMENT_NOT_FOUND));
+
+        // 2. 작성자 확인
+        if (!comment.isOwnedBy(userId)) {
+            throw new CommentException(COMMENT_NOT_OWNER);
+        }
+
+        // 3. 게시글 댓글 수 -1 (작성과 같은 순서로 post 행 락을 먼저 잡음)
+        postActivityService.commentsChanged(comment.getPost().getId(), -1);
+
+        // 4. 삭제 처리 (동시에 먼저 삭제한 요청이 있으면 실패 -> 롤백되어 댓글 수도 그대로)
+        if (!commentRepository.markDeleted(commentId)) {
+            throw new CommentException(COMMENT_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 최상위 댓글 한 페이지 + 각 댓글의 답글 트리 조회
+     * 페이지 크기, 답글 깊이와 상관없이 최상위 댓글 조회 1번 + 답글 조회 1번 + 내 반응 조회 1번
+     * 답글은 최상위 댓글마다 오래된 순으로 MAX_REPLIES_PER_ROOT개까지만 포함 (replyCount는 전체 답글 수)
+     * -> 잘린 답글은 GET /comments/{commentId}/subtree 로 조회
+     * @param userId : 로그인하지 않았으면 null (내 반응을 조회하지 않음)
+     * @param postId
+     * @param cursorId : 이전 페이지의 nextCursorId (첫 페이지는 null)
+     * @param size : 한 페이지 최상위 댓글 수 (기본 20, 최대 50)
+     * @return CommentPageResDto (comments, hasNext, nextCursorId)
+     */
+    public CommentPageResDto getComments(Long userId, Long postId, Long cursorId, Integer size) {
+
+        // 1. 게시글 확인
+        validatePost(postId);
+
+        // 2. 페이지 크기 보정
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        // 3. 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<CommentResDto> roots = commentQueryRepository.findRootComments(postId, cursorId, pageSize + 1);
+        boolean hasNext = roots.size() > pageSize;
+        if (hasNext) {
+            roots = roots.subList(0, pageSize);
+        }
+
+        // 4. 이번 페이지 최상위 댓글들의 답글을 한 번에 조회 (최상위 댓글마다 MAX_REPLIES_PER_ROOT개까지)
+        List<CommentResDto> replies = commentQueryRepository.findRepliesByRootIds(
+                roots.stream().map(CommentResDto::getCommentId).toList(), MAX_REPLIES_PER_ROOT);
+
+        // 5. 트리 조립 + 내 반응
+        List<CommentResDto> comments = new ArrayList<>(roots.size() + replies.size());
+        comments.addAll(roots);
+        comments.addAll(replies);
+        List<CommentResDto> tree = assembleTree(comments);
+        applyMyReactions(userId, comments);
+
+        // 6. 답글이 잘린 최상위 댓글만 전체 답글 수 조회
+        List<Long> truncatedRootIds = tree.stream()
+                .filter(root -> root.getReplyCount() >= MAX_REPLIES_PER_ROOT)
+                .map(CommentResDto::getCommentId)
+                .toList();
+        Map<Long, Long> replyCounts = commentQueryRepository.countRepliesByRootIds(truncatedRootIds);
+        tree.forEach(root -> {
+            Long replyCount = replyCounts.get(root.getCommentId());
+            if (replyCount != null) {
+                root.applyReplyCount(replyCount);
+            }
+        });
+
+        // 7. 마지막 최상위 댓글을 다음 페이지 커서로 반환
+        return CommentPageResDto.builder()
+                .comments(tree)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? roots.get(roots.size() - 1).getCommentId() : null)
+                .build();
+    }
+
+    /**
+     * 게시글의 전체 댓글 트리 조회 (댓글 조회 1번 + 내 반응 조회 1번)
+     * @param userId : 로그인하지 않았으면 null
+     * @param postId
+     * @return 최상위 댓글 목록 (각 댓글의 답글 트리 포함)
+     */
+    public List<CommentResDto> getThread(Long userId, Long postId) {
+
+        // 1. 게시글 확인
+        validatePost(postId);
+
+        // 2. 전체 댓글 조회 후 트리 조립
+        List<CommentResDto> comments = commentQueryRepository.findAllByPostId(postId);
+        List<CommentResDto> tree = assembleTree(comments);
+        applyMyReactions(userId, comments);
+
+        return tree;
+    }
+
+    /**
+     * 댓글 X의 서브트리 조회 (X + X 아래의 모든 답글, path 범위 스캔 1번 + 내 반응 조회 1번)
+     * @param userId : 로그인하지 않았으면 null
+     * @param commentId
+     * @return X (답글 트리 포함)
+     */
+    public CommentResDto getSubtree(Long userId, Long commentId) {
+
+        // 1. Comment 조회
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new CommentException(COMMENT_NOT_FOUND));
+
+        // 2. path 백필 전 댓글은 하위 댓글도 path가 없어 범위 조회로 찾을 수 없음
+        if (!comment.hasPath()) {
+            throw new CommentException(COMMENT_PATH_NOT_READY);
+        }
+
+        // 3. path 범위로 서브트리 조회 후 트리 조립
+        List<CommentResDto> comments = commentQueryRepository.findSubtree(
+                comment.getPost().getId(), comment.getCommentPath().getPath());
+        List<CommentResDto> tree = assembleTree(comments);
+        applyMyReactions(userId, comments);
+
+        return tree.get(0);
+    }
+
+    /**
+     * 평평한 댓글 목록을 트리로 조립
+     * comment_id 순서, path 순서 모두 부모가 항상 자식보다 먼저 나오므로 한 번 순회로 조립
+     * 부모가 목록에 없는 댓글(최상위 댓글, 서브트리의 시작 댓글)이 응답의 최상단 노드
+     * @param comments : 부모가 자식보다 먼저 나오는 댓글 목록
+     * @return 최상단 댓글 목록 (replyCount, replies 채움)
+     */
+    private List<CommentResDto> assembleTree(List<CommentResDto> comments) {
+        Map<Long, CommentResDto> byId = new HashMap<>();
+        Map<Long, Long> topIds = new HashMap<>();
+        Map<Long, Long> replyCounts = new HashMap<>();
+        List<CommentResDto> tops = new ArrayList<>();
+
+        for (CommentResDto comment : comments) {
+            Long commentId = comment.getCommentId();
+            byId.put(commentId, comment);
+
+            CommentResDto parent = comment.getParentId() == null ? null : byId.get(comment.getParentId());
+            if (parent == null) {
+                tops.add(comment);
+                topIds.put(commentId, commentId);
+                continue;
+            }
+            parent.addReply(comment);
+
+            Long topId = topIds.get(parent.getCommentId());
+            topIds.put(commentId, topId);
+            replyCounts.merge(topId, 1L, Long::sum);
+        }
+
+        tops.forEach(top -> top.applyReplyCount(replyCounts.getOrDefault(top.getCommentId(), 0L)));
+        return tops;
+    }
+
+    private void applyMyReactions(Long userId, List<CommentResDto> comments) {
+        Map<ReactionTarget, ReactionType> myReactions = reactionService.findMyReactions(userId,
+                comments.stream().map(comment -> ReactionTarget.of(TargetType.COMMENT, comment.getCommentId())).toList());
+        comments.forEach(comment -> comment.applyMyReaction(
+                myReactions.get(ReactionTarget.of(TargetType.COMMENT, comment.getCommentId()))));
+    }
+
+    private void validatePost(Long postId) {
+        if (!postRepository.existsActiveById(postId)) {
+            throw new PostException(POST_NOT_FOUND);
+        }
+    }
 }
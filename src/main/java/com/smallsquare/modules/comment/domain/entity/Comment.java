@@ -1,6 +1,9 @@
 package com.smallsquare.modules.comment.domain.entity;
 
 import com.smallsquare.common.util.BaseTimeEntity;
+import com.smallsquare.modules.comment.domain.enums.CommentStatus;
+import com.smallsquare.modules.comment.domain.vo.CommentPath;
+import com.smallsquare.modules.comment.exception.exception.CommentException;
 import com.smallsquare.modules.post.domain.entity.Post;
 import com.smallsquare.modules.user.domain.entity.User;
 import jakarta.persistence.*;
@@ -12,24 +15,45 @@ import lombok.NoArgsConstructor;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.smallsquare.modules.comment.exception.errorCode.CommentErrorCode.CONTENT_NOT_NULL;
+import static com.smallsquare.modules.comment.exception.errorCode.CommentErrorCode.CONTENT_WRONG_PATTERN;
+import static com.smallsquare.modules.comment.exception.errorCode.CommentErrorCode.REPLY_TOO_DEEP;
+
 @Entity
 @Getter
 @Builder
+@Table(indexes = {
+        // 게시글의 최상위 댓글 페이지 조회 (post_id = ? AND root_id IS NULL AND comment_id > ?)
+        @Index(name = "idx_comment_post_root", columnList = "post_id, root_id, comment_id"),
+        // 최상위 댓글들의 답글 한 번에 조회 (root_id IN (...))
+        @Index(name = "idx_comment_root", columnList = "root_id, comment_id"),
+        // 스레드 전체 / 서브트리 조회 (post_id = ? AND path LIKE 'prefix%' ORDER BY path)
+        @Index(name = "idx_comment_post_path", columnList = "post_id, path")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class Comment extends BaseTimeEntity {
 
+    private static final int MAX_CONTENT_LENGTH = 500;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "comment_id")
     private Long id;
 
+    @Column(name = "content", nullable = false, length = MAX_CONTENT_LENGTH)
     private String content;
 
+    // 개수 컬럼은 UPDATE 쿼리로 반영하므로 엔티티 수정(dirty checking) 시 덮어쓰지 않음
+    @Column(updatable = false)
     private Long likeCount;
 
+    @Column(updatable = false)
     private Long dislikeCount;
 
+    @Enumerated(EnumType.STRING)
+    private CommentStatus commentStatus;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -38,10 +62,89 @@ public class Comment extends BaseTimeEntity {
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
+    // 최상위 댓글은 null
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "parent_id", nullable = false)
+    @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    // 답글이 속한 최상위 댓글 id (최상위 댓글은 null), 한 스레드의 답글을 parent를 따라가지 않고 한 번에 조회하기 위함
+    @Column(name = "root_id")
+    private Long rootId;
+
+    // INSERT로 comment_id가 정해진 뒤 assignPath()로 채움
+    @Embedded
+    private CommentPath commentPath;
+
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
     private List<Comment> children = new ArrayList<>();
+
+    /**
+     * Comment 빌더
+     * @param content
+     * @param user
+     * @param post
+     * @param parent : 최상위 댓글이면 null
+     * @return
+     */
+    public static Comment of(String content, User user, Post post, Comment parent) {
+        validateContent(content);
+        if (parent != null && !parent.ensurePath().canHaveChild()) {
+            throw new CommentException(REPLY_TOO_DEEP);
+        }
+        return Comment.builder()
+                .content(content)
+                .user(user)
+                .post(post)
+                .parent(parent)
+                .rootId(parent == null ? null : parent.getThreadRootId())
+                .likeCount(0L)
+                .dislikeCount(0L)
+                .commentStatus(CommentStatus.ACTIVE)
+                .build();
+    }
+
+    /**
+     * 저장 후(comment_id 생성 후) path, depth 설정
+     * comment_id가 IDENTITY라 INSERT 전에는 알 수 없으므로 같은 트랜잭션에서 UPDATE 한 번으로 반영
+     */
+    public void assignPath() {
+        this.commentPath = (parent == null) ? CommentPath.root(id) : parent.ensurePath().child(id);
+    }
+
+    /**
+     * path가 없는 기존 댓글(백필 전 데이터)이면 부모를 따라 올라가며 path를 채운 뒤 반환
+     * 쓰기 트랜잭션 안에서 호출되면 채운 path는 커밋 시 UPDATE로 반영
+     */
+    public CommentPath ensurePath() {
+        if (commentPath == null) {
+            assignPath();
+        }
+        return commentPath;
+    }
+
+    public boolean hasPath() {
+        return commentPath != null && commentPath.getPath() != null;
+    }
+
+    // 이 댓글이 속한 스레드의 최상위 댓글 id
+    public Long getThreadRootId() {
+        return rootId != null ? rootId : id;
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return this.user != null && this.user.getId().equals(userId);
+    }
+
+    public boolean isDeleted() {
+        return commentStatus == CommentStatus.DELETED;
+    }
+
+    private static void validateContent(String content) {
+        if (content == null || content.isBlank()) {
+            throw new CommentException(CONTENT_NOT_NULL);
+        }
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            throw new CommentException(CONTENT_WRONG_PATTERN);
+        }
+    }
 }
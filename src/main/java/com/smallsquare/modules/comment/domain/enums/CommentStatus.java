@@ -0,0 +1,6 @@
+package com.smallsquare.modules.comment.domain.enums;
+
+public enum CommentStatus {
+    ACTIVE,
+    DELETED
+}
@@ -0,0 +1,52 @@
+package com.smallsquare.modules.comment.domain.repository;
+
+import com.smallsquare.modules.comment.web.dto.response.CommentResDto;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public interface CommentQueryRepository {
+
+    /**
+     * 게시글의 최상위 댓글 조회 (keyset 페이지네이션, 오래된 순)
+     * @param postId
+     * @param cursorId : 이전 페이지 마지막 최상위 댓글 id (첫 페이지는 null)
+     * @param limit
+     * @return 최상위 댓글 목록 (comment_id 오름차순)
+     */
+    List<CommentResDto> findRootComments(Long postId, Long cursorId, int limit);
+
+    /**
+     * 여러 최상위 댓글에 달린 답글을 한 번에 조회 (최상위 댓글마다 오래된 순으로 limitPerRoot개까지)
+     * 부모는 항상 자식보다 comment_id가 작으므로 잘라낸 답글 목록도 트리가 끊기지 않음
+     * @param rootIds
+     * @param limitPerRoot
+     * @return 답글 목록 (comment_id 오름차순, 부모가 항상 자식보다 먼저 나옴)
+     */
+    List<CommentResDto> findRepliesByRootIds(Collection<Long> rootIds, int limitPerRoot);
+
+    /**
+     * 최상위 댓글별 전체 답글 수
+     * @param rootIds
+     * @return root_id -> 답글 수 (답글이 없으면 포함하지 않음)
+     */
+    Map<Long, Long> countRepliesByRootIds(Collection<Long> rootIds);
+
+    /**
+     * 게시글의 전체 댓글 조회
+     * @param postId
+     * @return 최상위 댓글 + 답글 (path 순서)
+     */
+    List<CommentResDto> findAllByPostId(Long postId);
+
+    /**
+     * 댓글 X와 X 아래의 모든 답글 조회
+     * @param postId
+     * @param path : X의 path
+     * @return X + 하위 답글 (path 순서, X가 가장 먼저 나옴)
+     */
+    List<CommentResDto> findSubtree(Long postId, String path);
+}
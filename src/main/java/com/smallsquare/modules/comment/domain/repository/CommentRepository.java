@@ -0,0 +1,26 @@
+package com.smallsquare.modules.comment.domain.repository;
+
+import com.smallsquare.modules.comment.domain.entity.Comment;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CommentRepository {
+
+    Comment save(Comment comment);
+
+    Optional<Comment> findById(Long commentId);
+
+    boolean existsById(Long commentId);
+
+    // 삭제되지 않은 댓글인지 확인
+    boolean existsActiveById(Long commentId);
+
+    /**
+     * 삭제되지 않은 댓글만 삭제 상태로 변경 (답글이 남아 있을 수 있으므로 행은 지우지 않음)
+     * 조건부 UPDATE 한 번이므로 같은 댓글을 동시에 삭제해도 한 요청만 성공
+     * @return 이번 요청에서 삭제했으면 true
+     */
+    boolean markDeleted(Long commentId);
+}
@@ -0,0 +1,79 @@
+package com.smallsquare.modules.comment.domain.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+/**
+ * 댓글의 materialized path (최상위 댓글부터 자기 자신까지의 comment_id를 이어 붙인 문자열)
+ * 각 id는 8자리 고정 길이 36진수로 인코딩하므로 문자열 정렬 순서 = 스레드 순서(DFS, 같은 부모 아래는 작성 순)
+ * 1. 서브트리 : path LIKE '{X의 path}%'
+ * 2. 스레드 전체 : post_id = ? ORDER BY path
+ * 둘 다 (post_id, path) 인덱스의 범위 스캔 한 번으로 조회 (재귀 CTE, 반복 조회 없음)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Embeddable
+public class CommentPath {
+
+    // 36^8 ≈ 2.8조 개의 id까지 표현
+    public static final int SEGMENT_LENGTH = 8;
+
+    // 인덱스 키 길이 제한(3072 bytes) 안에 들어오도록 깊이 제한 (ascii 760자 = 95단계)
+    public static final int MAX_DEPTH = 90;
+
+    private static final int MAX_LENGTH = 760;
+
+    @Column(name = "path", length = MAX_LENGTH,
+            columnDefinition = "varchar(760) character set ascii collate ascii_bin")
+    private String path;
+
+    // 최상위 댓글은 0
+    @Column(name = "depth")
+    private Integer depth;
+
+    private CommentPath(String path, int depth) {
+        this.path = path;
+        this.depth = depth;
+    }
+
+    // 최상위 댓글의 path
+    public static CommentPath root(Long commentId) {
+        return new CommentPath(segment(commentId), 0);
+    }
+
+    // 이 댓글에 달린 답글의 path
+    public CommentPath child(Long commentId) {
+        return new CommentPath(path + segment(commentId), depth + 1);
+    }
+
+    // 답글을 더 달 수 있는 깊이인지 확인
+    public boolean canHaveChild() {
+        return depth + 1 <= MAX_DEPTH;
+    }
+
+    // comment_id -> 8자리 36진수 (앞을 0으로 채움)
+    static String segment(Long commentId) {
+        String encoded = Long.toString(commentId, 36);
+        if (encoded.length() > SEGMENT_LENGTH) {
+            throw new IllegalArgumentException("comment id out of path range: " + commentId);
+        }
+        return "0".repeat(SEGMENT_LENGTH - encoded.length()) + encoded;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        CommentPath that = (CommentPath) o;
+        return Objects.equals(path, that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(path);
+    }
+}
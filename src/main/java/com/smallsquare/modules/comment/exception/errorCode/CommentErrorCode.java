@@ -0,0 +1,22 @@
+package com.smallsquare.modules.comment.exception.errorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@AllArgsConstructor
+@Getter
+public enum CommentErrorCode {
+
+    // 에러 메시지와 상태 코드를 관리
+    CONTENT_NOT_NULL("댓글 내용은 필수 값입니다.", HttpStatus.BAD_REQUEST),
+    CONTENT_WRONG_PATTERN("댓글은 500자 이하만 가능합니다.", HttpStatus.BAD_REQUEST),
+    COMMENT_NOT_FOUND("댓글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    COMMENT_NOT_OWNER("댓글 작성자가 아닙니다.", HttpStatus.BAD_REQUEST),
+    PARENT_NOT_IN_POST("다른 게시글의 댓글에는 답글을 달 수 없습니다.", HttpStatus.BAD_REQUEST),
+    REPLY_TOO_DEEP("더 이상 답글을 달 수 없는 댓글입니다.", HttpStatus.BAD_REQUEST),
+    COMMENT_PATH_NOT_READY("아직 답글 트리를 조회할 수 없는 댓글입니다.", HttpStatus.CONFLICT);
+
+    private final String message;
+    private final HttpStatus status;
+}
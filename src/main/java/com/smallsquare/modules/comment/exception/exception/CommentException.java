@@ -0,0 +1,15 @@
+package com.smallsquare.modules.comment.exception.exception;
+
+import com.smallsquare.modules.comment.exception.errorCode.CommentErrorCode;
+import lombok.Getter;
+
+@Getter
+public class CommentException extends RuntimeException {
+
+    private final CommentErrorCode errorCode;
+
+    public CommentException(CommentErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,151 @@
+package com.smallsquare.modules.comment.infrastructure.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.smallsquare.modules.comment.domain.entity.QComment;
+import com.smallsquare.modules.comment.domain.enums.CommentStatus;
+import com.smallsquare.modules.comment.domain.repository.CommentQueryRepository;
+import com.smallsquare.modules.comment.web.dto.response.CommentResDto;
+import com.smallsquare.modules.user.domain.entity.QUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글은 parent를 따라 엔티티를 로딩하지 않고(N+1) 평평한 DTO 목록으로 조회한 뒤 서비스에서 트리로 조립
+ * 답글은 root_id로 묶여 있으므로 깊이와 상관없이 최상위 댓글 페이지 1번 + 답글 1번으로 조회
+ * 페이지 조회의 답글은 최상위 댓글마다 개수를 제한 (답글이 수천 개인 댓글도 한 페이지 응답 크기가 일정)
+ * 스레드 전체, 서브트리는 materialized path(CommentPath) 범위 스캔 1번으로 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentQueryRepositoryImpl implements CommentQueryRepository {
+
+    private static final QComment comment = QComment.comment;
+    private static final QUser user = QUser.user;
+
+    // 답글은 부모, 최상위 댓글이 반드시 있으므로 parent_id, root_id는 null이 아님
+    private static final String REPLIES_SQL = """
+            SELECT c.comment_id, c.parent_id, c.root_id, c.depth, c.content, u.nickname,
+                   c.like_count, c.dislike_count, c.comment_status, c.created_at
+            FROM (
+                SELECT comment_id, ROW_NUMBER() OVER (PARTITION BY root_id ORDER BY comment_id) AS rn
+                FROM comment
+                WHERE root_id IN (:rootIds)
+            ) r
+            JOIN comment c ON c.comment_id = r.comment_id
+            JOIN `user` u ON u.user_id = c.user_id
+            WHERE r.rn <= :limit
+            ORDER BY c.comment_id
+            """;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 인덱스(post_id, root_id, comment_id)로 커서 위치부터 탐색
+    @Override
+    public List<CommentResDto> findRootComments(Long postId, Long cursorId, int limit) {
+        return selectComments()
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.rootId.isNull(),
+                        afterCursor(cursorId)
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 순번은 인덱스(root_id, comment_id)만으로 계산하고, 잘라낸 답글만 본문, 작성자를 읽음
+    @Override
+    public List<CommentResDto> findRepliesByRootIds(Collection<Long> rootIds, int limitPerRoot) {
+        if (rootIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("rootIds", rootIds)
+                .addValue("limit", limitPerRoot);
+
+        return namedParameterJdbcTemplate.query(REPLIES_SQL, params, (rs, rowNum) -> new CommentResDto(
+                rs.getLong("comment_id"),
+                rs.getLong("parent_id"),
+                rs.getLong("root_id"),
+                rs.getObject("depth", Integer.class),
+                rs.getString("content"),
+                rs.getString("nickname"),
+                rs.getLong("like_count"),
+                rs.getLong("dislike_count"),
+                CommentStatus.valueOf(rs.getString("comment_status")),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ));
+    }
+
+    // 인덱스(root_id, comment_id)만 읽음
+    @Override
+    public Map<Long, Long> countRepliesByRootIds(Collection<Long> rootIds) {
+        if (rootIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaQueryFactory
+                .select(comment.rootId, comment.count())
+                .from(comment)
+                .where(comment.rootId.in(rootIds))
+                .groupBy(comment.rootId)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(comment.rootId), tuple -> tuple.get(comment.count())));
+    }
+
+    // 인덱스(post_id, path) 순서 그대로 읽으므로 정렬 비용 없음
+    @Override
+    public List<CommentResDto> findAllByPostId(Long postId) {
+        return selectComments()
+                .where(comment.post.id.eq(postId))
+                .orderBy(comment.commentPath.path.asc())
+                .fetch();
+    }
+
+    // path는 고정 길이 36진수라 LIKE 특수문자(%, _)가 들어가지 않음 -> 인덱스(post_id, path) 범위 스캔
+    @Override
+    public List<CommentResDto> findSubtree(Long postId, String path) {
+        return selectComments()
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.commentPath.path.startsWith(path)
+                )
+                .orderBy(comment.commentPath.path.asc())
+                .fetch();
+    }
+
+    // parent는 조인하지 않고 FK 컬럼(parent_id)만 사용
+    private JPAQuery<CommentResDto> selectComments() {
+        return jpaQueryFactory
+                .select(Projections.constructor(CommentResDto.class,
+                        comment.id,
+                        comment.parent.id,
+                        comment.rootId,
+                        comment.commentPath.depth,
+                        comment.content,
+                        user.nickname.nickname,
+                        comment.likeCount,
+                        comment.dislikeCount,
+                        comment.commentStatus,
+                        comment.createdAt
+                ))
+                .from(comment)
+                .join(comment.user, user);
+    }
+
+    // comment_id > cursorId, 첫 페이지면 조건 없음
+    private BooleanExpression afterCursor(Long cursorId) {
+        return cursorId == null ? null : comment.id.gt(cursorId);
+    }
+}
@@ -1,4 +0,0 @@
-package com.smallsquare.modules.comment.infrastructure.repository;
-
-public class CommentRepository {
-}
@@ -0,0 +1,41 @@
+package com.smallsquare.modules.comment.infrastructure.repository;
+
+import com.smallsquare.modules.comment.domain.entity.Comment;
+import com.smallsquare.modules.comment.domain.enums.CommentStatus;
+import com.smallsquare.modules.comment.domain.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepository {
+
+    private final JpaCommentRepository jpaCommentRepository;
+
+    @Override
+    public Comment save(Comment comment) {
+        return jpaCommentRepository.save(comment);
+    }
+
+    @Override
+    public Optional<Comment> findById(Long commentId) {
+        return jpaCommentRepository.findById(commentId);
+    }
+
+    @Override
+    public boolean existsById(Long commentId) {
+        return jpaCommentRepository.existsById(commentId);
+    }
+
+    @Override
+    public boolean existsActiveById(Long commentId) {
+        return jpaCommentRepository.existsByIdAndCommentStatus(commentId, CommentStatus.ACTIVE);
+    }
+
+    @Override
+    public boolean markDeleted(Long commentId) {
+        return jpaCommentRepository.updateStatus(commentId, CommentStatus.ACTIVE, CommentStatus.DELETED) == 1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.smallsquare.modules.comment.infrastructure.repository;
+
+import com.smallsquare.modules.comment.domain.entity.Comment;
+import com.smallsquare.modules.comment.domain.enums.CommentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaCommentRepository extends JpaRepository<Comment, Long> {
+
+    boolean existsByIdAndCommentStatus(Long id, CommentStatus commentStatus);
+
+    // 현재 상태가 from일 때만 변경 (변경된 행 수 반환)
+    @Modifying
+    @Query("UPDATE Comment c SET c.commentStatus = :to WHERE c.id = :id AND c.commentStatus = :from")
+    int updateStatus(@Param("id") Long id, @Param("from") CommentStatus from, @Param("to") CommentStatus to);
+}
@@ -1,4 +1,91 @@
 package com.smallsquare.modules.comment.web.controller;
 
+import com.smallsquare.modules.comment.application.service.CommentService;
+import com.smallsquare.modules.comment.web.dto.request.CreateCommentReqDto;
+import com.smallsquare.modules.comment.web.dto.response.CommentPageResDto;
+import com.smallsquare.modules.comment.web.dto.response.CommentResDto;
+import com.smallsquare.modules.user.infrastructure.auth.model.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/comments")
 public class CommentController {
+
+    private final CommentService commentService;
+
+    /**
+     * 댓글/답글 작성
+     * @param reqDto : postId, parentId(답글이면), content
+     * @return 201 Created / 생성된 댓글 id
+     */
+    @PostMapping("/")
+    public ResponseEntity<Long> createComment(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                              @RequestBody CreateCommentReqDto reqDto) {
+        Long commentId = commentService.createComment(userDetails.getUserId(), reqDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(commentId);
+    }
+
+    /**
+     * 최상위 댓글 페이지 조회 (답글 트리 포함)
+     * @param postId
+     * @param cursorId : 이전 페이지 응답의 nextCursorId (첫 페이지는 생략)
+     * @param size : 한 페이지 최상위 댓글 수 (기본 20, 최대 50)
+     * @return 200 Success / CommentPageResDto
+     */
+    @GetMapping("/")
+    public ResponseEntity<CommentPageResDto> getComments(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                         @RequestParam Long postId,
+                                                         @RequestParam(required = false) Long cursorId,
+                                                         @RequestParam(required = false) Integer size) {
+        CommentPageResDto resDto = commentService.getComments(userIdOf(userDetails), postId, cursorId, size);
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
+
+    /**
+     * 게시글의 전체 댓글 트리 조회
+     * @param postId
+     * @return 200 Success / 최상위 댓글 목록 (답글 트리 포함)
+     */
+    @GetMapping("/thread")
+    public ResponseEntity<List<CommentResDto>> getThread(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                         @RequestParam Long postId) {
+        List<CommentResDto> resDto = commentService.getThread(userIdOf(userDetails), postId);
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
+
+    /**
+     * 댓글 X와 X 아래의 모든 답글 조회
+     * @param commentId
+     * @return 200 Success / CommentResDto (답글 트리 포함)
+     */
+    @GetMapping("/{commentId}/subtree")
+    public ResponseEntity<CommentResDto> getSubtree(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                    @PathVariable Long commentId) {
+        CommentResDto resDto = commentService.getSubtree(userIdOf(userDetails), commentId);
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
+
+    /**
+     * 댓글 삭제 (답글이 있으면 "삭제된 댓글"로 자리만 남음)
+     * @param commentId
+     * @return 204 No Content
+     */
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<Void> deleteComment(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                              @PathVariable Long commentId) {
+        commentService.deleteComment(userDetails.getUserId(), commentId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    // 로그인하지 않은 요청도 허용하는 API에서 사용 (비로그인이면 null)
+    private Long userIdOf(CustomUserDetails userDetails) {
+        return userDetails != null ? userDetails.getUserId() : null;
+    }
 }
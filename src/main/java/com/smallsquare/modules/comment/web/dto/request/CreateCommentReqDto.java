@@ -0,0 +1,19 @@
+package com.smallsquare.modules.comment.web.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateCommentReqDto {
+
+    private Long postId;
+
+    // 답글이면 부모 댓글 id, 최상위 댓글이면 null
+    private Long parentId;
+
+    private String content;
+}
@@ -0,0 +1,24 @@
+package com.smallsquare.modules.comment.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 최상위 댓글 한 페이지 (각 댓글의 답글 트리 포함)
+ * 다음 페이지는 nextCursorId를 그대로 다시 전달해서 조회 (hasNext가 false면 null)
+ */
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPageResDto {
+
+    private List<CommentResDto> comments;
+
+    private boolean hasNext;
+
+    private Long nextCursorId;
+}
@@ -0,0 +1,83 @@
+package com.smallsquare.modules.comment.web.dto.response;
+
+import com.smallsquare.modules.comment.domain.enums.CommentStatus;
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 댓글 트리의 노드 한 건
+ * 삭제된 댓글은 답글을 유지하기 위해 자리만 남기고 내용, 작성자를 비워서 반환
+ */
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentResDto {
+
+    // QueryDSL 프로젝션용 (답글, 답글 수, 내 반응은 트리를 조립하면서 채움)
+    public CommentResDto(Long commentId, Long parentId, Long rootId, Integer depth, String content, String nickname,
+                         Long likeCount, Long dislikeCount, CommentStatus commentStatus, LocalDateTime createdAt) {
+        boolean deleted = commentStatus == CommentStatus.DELETED;
+        this.commentId = commentId;
+        this.parentId = parentId;
+        this.rootId = rootId;
+        this.depth = depth;
+        this.content = deleted ? null : content;
+        this.nickname = deleted ? null : nickname;
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+        this.deleted = deleted;
+        this.createdAt = createdAt;
+        this.replies = new ArrayList<>();
+    }
+
+    private Long commentId;
+
+    // 최상위 댓글이면 null
+    private Long parentId;
+
+    // 최상위 댓글이면 null
+    private Long rootId;
+
+    // 최상위 댓글은 0
+    private Integer depth;
+
+    private String content;
+
+    private String nickname;
+
+    private Long likeCount;
+
+    private Long dislikeCount;
+
+    private boolean deleted;
+
+    private LocalDateTime createdAt;
+
+    // 응답 최상단 댓글 아래의 전체 답글 수 (그 아래 답글이면 0)
+    private long replyCount;
+
+    // 로그인한 사용자의 반응 (반응하지 않았거나 로그인하지 않았으면 null)
+    private ReactionType myReaction;
+
+    // 이 댓글에 직접 달린 답글 (오래된 순)
+    private List<CommentResDto> replies;
+
+    public void addReply(CommentResDto reply) {
+        replies.add(reply);
+    }
+
+    public void applyReplyCount(long replyCount) {
+        this.replyCount = replyCount;
+    }
+
+    public void applyMyReaction(ReactionType myReaction) {
+        this.myReaction = myReaction;
+    }
+}
@@ -0,0 +1,37 @@
+package com.smallsquare.modules.post.application.service;
+
+import com.smallsquare.modules.post.domain.repository.PostRepository;
+import com.smallsquare.modules.post.infrastructure.redis.HotPostRanking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * 다른 모듈(반응, 댓글)이 게시글에 생긴 활동을 알리는 진입점
+ * 댓글 수 누적, 인기글 점수 등 게시글 모듈 내부 구현을 다른 모듈이 직접 참조하지 않도록 함
+ * 호출한 쪽의 트랜잭션 안에서 호출 (댓글 수는 바로, 인기글 점수는 커밋 이후에 반영)
+ */
+@Service
+@RequiredArgsConstructor
+public class PostActivityService {
+
+    private final PostRepository postRepository;
+    private final HotPostRanking hotPostRanking;
+
+    // 게시글 좋아요 증감 (취소는 음수)
+    public void likesChanged(Long postId, long delta) {
+        hotPostRanking.recordLikes(postId, delta);
+    }
+
+    /**
+     * 게시글 댓글 증감 (삭제는 음수)
+     * UPDATE post SET comment_count = comment_count + ? 로 바로 반영하므로 post 행 배타 락을 커밋까지 잡음
+     * 댓글 INSERT는 FK 확인으로 post 행에 공유 락을 잡으므로, 반드시 댓글 행을 쓰기 전에 호출
+     * (INSERT 뒤에 호출하면 같은 게시글의 동시 작성자끼리 공유 락을 쥔 채 배타 락을 기다려 데드락)
+     */
+    public void commentsChanged(Long postId, long delta) {
+        postRepository.addCommentCounts(Map.of(postId, delta));
+        hotPostRanking.recordComments(postId, delta);
+    }
+}
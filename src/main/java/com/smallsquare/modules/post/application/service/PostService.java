@@ -1,23 +1,52 @@
 package com.smallsquare.modules.post.application.service;
 
+import com.smallsquare.common.enums.TargetType;
 import com.smallsquare.modules.post.domain.entity.Post;
+import com.smallsquare.modules.post.domain.enums.PostStatus;
+import com.smallsquare.modules.post.domain.repository.PostQueryRepository;
 import com.smallsquare.modules.post.domain.repository.PostRepository;
+import com.smallsquare.modules.post.domain.repository.PostSearchRepository;
+import com.smallsquare.modules.post.domain.vo.PostSearchHit;
+import com.smallsquare.modules.post.domain.vo.SearchKeyword;
 import com.smallsquare.modules.post.domain.vo.Content;
 import com.smallsquare.modules.post.domain.vo.Title;
 import com.smallsquare.modules.post.exception.errorCode.PostErrorCode;
 import com.smallsquare.modules.post.exception.exception.PostException;
 import com.smallsquare.modules.post.web.dto.request.CreatePostReqDto;
+import com.smallsquare.modules.post.infrastructure.redis.HotPostRanking;
+import com.smallsquare.modules.post.infrastructure.redis.PostViewCounter;
+import com.smallsquare.modules.post.infrastructure.search.PostSearchIndexManager;
+import com.smallsquare.modules.post.infrastructure.search.SearchHighlighter;
 import com.smallsquare.modules.post.web.dto.request.UpdatePostReqDto;
+import com.smallsquare.modules.post.web.dto.response.PostDetailResDto;
+import com.smallsquare.modules.post.web.dto.response.HotPostPageResDto;
+import com.smallsquare.modules.post.web.dto.response.PostFeedResDto;
+import com.smallsquare.modules.post.web.dto.response.PostSearchPageResDto;
+import com.smallsquare.modules.post.web.dto.response.PostSearchResDto;
+import com.smallsquare.modules.post.web.dto.response.PostSummaryResDto;
 import com.smallsquare.modules.post.web.dto.response.UpdatePostResDto;
+import com.smallsquare.modules.reaction.application.service.ReactionService;
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import com.smallsquare.modules.reaction.domain.vo.ReactionTarget;
 import com.smallsquare.modules.user.domain.entity.User;
 import com.smallsquare.modules.user.domain.repository.UserRepository;
 import com.smallsquare.modules.user.exception.exception.UserException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.smallsquare.modules.post.exception.errorCode.PostErrorCode.INVALID_CURSOR;
 import static com.smallsquare.modules.post.exception.errorCode.PostErrorCode.POST_NOT_FOUND;
 import static com.smallsquare.modules.post.exception.errorCode.PostErrorCode.POST_NOT_OWNER;
+import static com.smallsquare.modules.post.exception.errorCode.PostErrorCode.SEARCH_INDEX_REBUILD_IN_PROGRESS;
 import static com.smallsquare.modules.user.exception.errorCode.UserErrorCode.USER_NOT_FOUND;
 
 @Service
@@ -25,7 +54,17 @@ import static com.smallsquare.modules.user.exception.errorCode.UserErrorCode.USE
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 50;
+    private static final int SNIPPET_LENGTH = 120;
+
     private final PostRepository postRepository;
+    private final PostQueryRepository postQueryRepository;
+    private final PostSearchRepository postSearchRepository;
+    private final PostSearchIndexManager postSearchIndexManager;
+    private final PostViewCounter postViewCounter;
+    private final HotPostRanking hotPostRanking;
+    private final ReactionService reactionService;
     private final UserRepository userRepository;
 
     @Transactional
@@ -45,6 +84,9 @@ public class PostService {
 
         // 5. Post 저장
         postRepository.save(post);
+
+        // 6. 인기글 순위에 추가 (커밋 후)
+        hotPostRanking.recordPost(post.getId());
     }
 
     @Transactional
@@ -72,10 +114,203 @@ public class PostService {
                 .postId(post.getId())
                 .title(post.getTitle().getTitle())
                 .content(post.getContent().getContent())
-                .imageUrls(post.getContent().getImageUrls())
+                .imageUrls(List.copyOf(post.getContent().getImageUrls()))
                 .build();
 
         return resDto;
 
     }
+
+    /**
+     * 게시글 상세 조회
+     * 조회수는 Redis에서 증가시키고 DB 값 + 아직 반영되지 않은 증가분으로 반환 (post 행은 수정하지 않음)
+     * @param userId : 로그인하지 않았으면 null (내 반응을 조회하지 않음)
+     * @param postId
+     * @return PostDetailResDto
+     */
+    public PostDetailResDto getPost(Long userId, Long postId) {
+
+        // 1. Post 조회 (삭제된 게시글 제외)
+        Post post = postRepository.findById(postId)
+                .filter(found -> found.getPostStatus() == PostStatus.ACTIVE)
+                .orElseThrow(() -> new PostException(POST_NOT_FOUND));
+
+        // 2. 조회수 증가 (Redis)
+        long pendingViews = postViewCounter.increment(postId);
+
+        // 3. 내 반응 조회
+        ReactionTarget target = ReactionTarget.of(TargetType.POST, postId);
+        ReactionType myReaction = reactionService.findMyReactions(userId, List.of(target)).get(target);
+
+        // 4. 반환
+        return PostDetailResDto.builder()
+                .postId(post.getId())
+                .title(post.getTitle().getTitle())
+                .content(post.getContent().getContent())
+                .imageUrls(List.copyOf(post.getContent().getImageUrls()))
+                .nickname(post.getUser().getNickname().getNickname())
+                .commentCount(post.getCommentCount())
+                .likeCount(post.getLikeCount())
+                .dislikeCount(post.getDislikeCount())
+                .viewCount(post.getViewCount() + pendingViews)
+                .createdAt(post.getCreatedAt())
+                .myReaction(myReaction)
+                .build();
+    }
+
+    /**
+     * 최신순 피드 조회 (keyset 페이지네이션)
+     * 페이지 크기와 상관없이 게시글 조회 2번 + 조회수 HMGET 1번 + 내 반응 조회 1번
+     * @param userId : 로그인하지 않았으면 null (내 반응을 조회하지 않음)
+     * @param cursorCreatedAt, cursorId : 이전 페이지의 nextCursorCreatedAt, nextCursorId (첫 페이지는 둘 다 null)
+     * @param size : 한 페이지 게시글 수 (기본 20, 최대 50)
+     * @return PostFeedResDto (posts, hasNext, nextCursorCreatedAt, nextCursorId)
+     */
+    public PostFeedResDto getFeed(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, Integer size) {
+
+        // 1. 커서는 두 값이 함께 있거나 함께 없어야 함
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new PostException(INVALID_CURSOR);
+        }
+
+        // 2. 페이지 크기 보정
+        int pageSize = (size == null || size <= 0) ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+
+        // 3. 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<PostSummaryResDto> posts = postQueryRepository.findFeed(cursorCreatedAt, cursorId, pageSize + 1);
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = posts.subList(0, pageSize);
+        }
+
+        // 4. 아직 DB에 반영되지 않은 조회수 증가분 합산 (HMGET 한 번)
+        List<Long> postIds = posts.stream().map(PostSummaryResDto::getPostId).toList();
+        Map<Long, Long> pendingViews = postViewCounter.getPendingViews(postIds);
+        posts.forEach(post -> post.addViewCount(pendingViews.getOrDefault(post.getPostId(), 0L)));
+
+        // 5. 내 반응을 한 번에 조회해서 채움
+        Map<ReactionTarget, ReactionType> myReactions = reactionService.findMyReactions(userId,
+                postIds.stream().map(postId -> ReactionTarget.of(TargetType.POST, postId)).toList());
+        posts.forEach(post -> post.applyMyReaction(myReactions.get(ReactionTarget.of(TargetType.POST, post.getPostId()))));
+
+        // 6. 마지막 게시글을 다음 페이지 커서로 반환
+        PostSummaryResDto last = hasNext ? posts.get(posts.size() - 1) : null;
+        return PostFeedResDto.builder()
+                .posts(posts)
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(last != null ? last.getCreatedAt() : null)
+                .nextCursorId(last != null ? last.getPostId() : null)
+                .build();
+    }
+
+    /**
+     * 인기글 조회 (Redis 순위)
+     * 순위에서 id만 가져와서 게시글 IN 조회 1번 + 조회수 HMGET 1번 + 내 반응 조회 1번
+     * @param userId : 로그인하지 않았으면 null (내 반응을 조회하지 않음)
+     * @param page : 0부터 시작
+     * @param size : 한 페이지 게시글 수 (기본 20, 최대 50)
+     * @return HotPostPageResDto (posts, page, hasNext)
+     */
+    public HotPostPageResDto getHotPosts(Long userId, Integer page, Integer size) {
+
+        // 1. 페이지 보정 (순위는 상위 maxSize개까지만 유지)
+        int pageNumber = (page == null || page < 0) ? 0 : page;
+        int pageSize = (size == null || size <= 0) ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+        long offset = (long) pageNumber * pageSize;
+        if (offset >= hotPostRanking.getMaxSize()) {
+            return HotPostPageResDto.builder().posts(List.of()).page(pageNumber).hasNext(false).build();
+        }
+
+        // 2. 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<Long> rankedIds = hotPostRanking.findTopIds(offset, pageSize + 1);
+        boolean hasNext = rankedIds.size() > pageSize && offset + pageSize < hotPostRanking.getMaxSize();
+        if (rankedIds.size() > pageSize) {
+            rankedIds = rankedIds.subList(0, pageSize);
+        }
+
+        // 3. 게시글 IN 조회 후 순위 순서로 정렬 (삭제된 게시글은 제외)
+        Map<Long, PostSummaryResDto> byId = postQueryRepository.findSummariesByIds(rankedIds).stream()
+                .collect(Collectors.toMap(PostSummaryResDto::getPostId, Function.identity()));
+        List<PostSummaryResDto> posts = rankedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        // 4. 아직 DB에 반영되지 않은 조회수 증가분 합산 (HMGET 한 번)
+        List<Long> postIds = posts.stream().map(PostSummaryResDto::getPostId).toList();
+        Map<Long, Long> pendingViews = postViewCounter.getPendingViews(postIds);
+        posts.forEach(post -> post.addViewCount(pendingViews.getOrDefault(post.getPostId(), 0L)));
+
+        // 5. 내 반응을 한 번에 조회해서 채움
+        Map<ReactionTarget, ReactionType> myReactions = reactionService.findMyReactions(userId,
+                postIds.stream().map(postId -> ReactionTarget.of(TargetType.POST, postId)).toList());
+        posts.forEach(post -> post.applyMyReaction(myReactions.get(ReactionTarget.of(TargetType.POST, post.getPostId()))));
+
+        return HotPostPageResDto.builder()
+                .posts(posts)
+                .page(pageNumber)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 제목 + 본문 검색 (최신순, keyset 페이지네이션)
+     * FULLTEXT 인덱스 조회 1번 + 조회수 HMGET 1번, 하이라이트는 애플리케이션에서 처리
+     * @param keyword : 공백으로 구분한 단어를 모두 포함하는 게시글 검색
+     * @param cursorId : 이전 페이지의 nextCursorId (첫 페이지는 null)
+     * @param size : 한 페이지 게시글 수 (기본 20, 최대 50)
+     * @return PostSearchPageResDto (posts, hasNext, nextCursorId)
+     */
+    public PostSearchPageResDto search(String keyword, Long cursorId, Integer size) {
+
+        // 1. 검색어 VO 생성
+        SearchKeyword searchKeyword = new SearchKeyword(keyword);
+
+        // 2. 페이지 크기 보정
+        int pageSize = (size == null || size <= 0) ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+
+        // 3. 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<PostSearchHit> hits = postSearchRepository.search(searchKeyword.toBooleanQuery(), cursorId, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        if (hasNext) {
+            hits = hits.subList(0, pageSize);
+        }
+
+        // 4. 아직 DB에 반영되지 않은 조회수 증가분 (HMGET 한 번)
+        Map<Long, Long> pendingViews = postViewCounter.getPendingViews(
+                hits.stream().map(PostSearchHit::getPostId).toList());
+
+        // 5. 하이라이트 후 반환
+        List<String> terms = searchKeyword.getTerms();
+        List<PostSearchResDto> posts = hits.stream()
+                .map(hit -> PostSearchResDto.builder()
+                        .postId(hit.getPostId())
+                        .title(SearchHighlighter.highlight(hit.getTitle(), terms))
+                        .snippet(SearchHighlighter.snippet(hit.getContent(), terms, SNIPPET_LENGTH))
+                        .nickname(hit.getNickname())
+                        .commentCount(hit.getCommentCount())
+                        .likeCount(hit.getLikeCount())
+                        .viewCount(hit.getViewCount() + pendingViews.getOrDefault(hit.getPostId(), 0L))
+                        .createdAt(hit.getCreatedAt())
+                        .build())
+                .toList();
+
+        return PostSearchPageResDto.builder()
+                .posts(posts)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? hits.get(hits.size() - 1).getPostId() : null)
+                .build();
+    }
+
+    /**
+     * 검색 인덱스 재구성 요청 (관리자)
+     * 재구성은 비동기로 실행되고 요청은 바로 반환
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildSearchIndex() {
+        if (!postSearchIndexManager.tryStartRebuild()) {
+            throw new PostException(SEARCH_INDEX_REBUILD_IN_PROGRESS);
+        }
+        postSearchIndexManager.rebuild();
+    }
 }
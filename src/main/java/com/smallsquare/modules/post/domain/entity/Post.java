@@ -16,6 +16,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity @Getter @Builder
+@Table(indexes = {
+        // 피드 keyset 페이지네이션용 (post_status = ? 조건 + created_at, post_id 역순 탐색)
+        @Index(name = "idx_post_status_created_at_id", columnList = "post_status, created_at, post_id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class Post extends BaseTimeEntity {
@@ -31,12 +35,17 @@ public class Post extends BaseTimeEntity {
     @Embedded
     private Content content;
 
+    // 개수 컬럼은 UPDATE 쿼리로 증가분만 반영하므로 엔티티 수정(dirty checking) 시 덮어쓰지 않음
+    @Column(updatable = false)
     private Long commentCount;
 
+    @Column(updatable = false)
     private Long likeCount;
 
+    @Column(updatable = false)
     private Long dislikeCount;
 
+    @Column(updatable = false)
     private Long viewCount;
 
     @Enumerated(EnumType.STRING)
@@ -81,7 +90,7 @@ public class Post extends BaseTimeEntity {
 
     public void updatePost(Title title, Content content) {
         this.title = title;
-        this.content = content;
+        this.content.update(content);
     }
 
 
@@ -0,0 +1,39 @@
+package com.smallsquare.modules.post.domain.repository;
+
+import com.smallsquare.modules.post.domain.vo.PostActivity;
+import com.smallsquare.modules.post.web.dto.response.PostSummaryResDto;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostQueryRepository {
+
+    /**
+     * 최신순 피드 조회 (keyset 페이지네이션)
+     * (created_at, post_id)가 커서보다 작은 게시글을 최신순으로 조회
+     * @param cursorCreatedAt 이전 페이지 마지막 게시글의 작성 시간 (첫 페이지는 null)
+     * @param cursorId        이전 페이지 마지막 게시글의 id (첫 페이지는 null)
+     * @param limit
+     * @return 게시글 목록 (최신순)
+     */
+    List<PostSummaryResDto> findFeed(LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * id 목록으로 게시글 조회 (삭제된 게시글 제외, 순서 보장 안 함)
+     * @param postIds
+     * @return 게시글 목록
+     */
+    List<PostSummaryResDto> findSummariesByIds(Collection<Long> postIds);
+
+    /**
+     * since 이후 작성된 게시글의 활동량 조회 ((created_at, post_id) keyset)
+     * @param since
+     * @param cursorCreatedAt, cursorId : 이전 chunk 마지막 게시글 (첫 chunk는 null)
+     * @param limit
+     * @return 활동량 목록 (작성 순)
+     */
+    List<PostActivity> findActivitiesSince(LocalDateTime since, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+}
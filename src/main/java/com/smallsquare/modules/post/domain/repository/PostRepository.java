@@ -3,6 +3,7 @@ package com.smallsquare.modules.post.domain.repository;
 import com.smallsquare.modules.post.domain.entity.Post;
 import org.springframework.stereotype.Repository;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +13,29 @@ public interface PostRepository {
 
 
     Optional<Post> findById(Long postId);
+
+    // 삭제되지 않은 게시글인지 확인
+    boolean existsActiveById(Long postId);
+
+    /**
+     * 조회수 증가분을 batch UPDATE로 반영 (view_count = view_count + delta)
+     * @param deltas postId -> 증가분
+     */
+    void addViewCounts(Map<Long, Long> deltas);
+
+    /**
+     * 댓글 수 증가분을 batch UPDATE로 반영 (comment_count = comment_count + delta)
+     * @param deltas postId -> 증가분
+     */
+    void addCommentCounts(Map<Long, Long> deltas);
+
+    /**
+     * post_id 범위 안의 게시글 댓글 수를 실제 댓글(삭제 제외) 수로 다시 계산
+     * @param fromPostId, toPostId : 포함 범위
+     * @return 값이 달라서 수정된 게시글 수
+     */
+    int reconcileCommentCounts(long fromPostId, long toPostId);
+
+    // 가장 큰 post_id (게시글이 없으면 0)
+    long findMaxId();
 }
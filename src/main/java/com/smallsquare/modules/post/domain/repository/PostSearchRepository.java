@@ -0,0 +1,28 @@
+package com.smallsquare.modules.post.domain.repository;
+
+import com.smallsquare.modules.post.domain.vo.PostSearchHit;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PostSearchRepository {
+
+    /**
+     * 제목 + 본문 전문 검색 (최신순, post_id keyset 페이지네이션)
+     * @param booleanQuery : MATCH ... AGAINST(... IN BOOLEAN MODE)에 그대로 넘길 검색식
+     * @param cursorId     : 이전 페이지 마지막 게시글 id (첫 페이지는 null)
+     * @param limit
+     * @return 검색 결과 (post_id 내림차순)
+     */
+    List<PostSearchHit> search(String booleanQuery, Long cursorId, int limit);
+
+    // FULLTEXT 인덱스가 있는지 확인
+    boolean existsFullTextIndex();
+
+    // FULLTEXT 인덱스 생성 (ngram parser)
+    void createFullTextIndex();
+
+    // FULLTEXT 인덱스 삭제
+    void dropFullTextIndex();
+}
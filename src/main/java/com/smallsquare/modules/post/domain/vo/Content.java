@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,16 +32,44 @@ public class Content {
      * Post가 저장될 때 imageUrls도 자동으로 함께 관리
      * 이미지가 null이면 Post 테이블에만 저장되고 image_url 테이블에는 저장 X
      * imageUrls는 List<String>이고 JPA는 이걸 별도 테이블에 각 요소마다 row로 저장해준다.
+     * @OrderColumn : 순서(image_order)를 행마다 저장 -> 수정 시 전체 DELETE + INSERT 대신 바뀐 위치의 행만 UPDATE/INSERT/DELETE
+     * @BatchSize : 여러 게시글의 이미지를 지연 로딩할 때 게시글마다 조회하지 않고 IN 조회 한 번으로 가져옴
      */
     @ElementCollection
     @CollectionTable(name = "post_images", joinColumns = @JoinColumn(name = "post_id"))
+    @OrderColumn(name = "image_order")
+    @BatchSize(size = 100)
     @Column(name = "image_url")
     private List<String> imageUrls = new ArrayList<>();
 
     public Content(String content, List<String> newImageUrls) {
         validate(content);
         this.content = content;
-        this.imageUrls = (newImageUrls == null) ? new ArrayList<>() : newImageUrls;
+        this.imageUrls = (newImageUrls == null) ? new ArrayList<>() : new ArrayList<>(newImageUrls);
+    }
+
+    /**
+     * 본문, 이미지 수정
+     * 컬렉션을 새로 교체하면 Hibernate가 기존 행을 모두 지우고 다시 넣으므로, 기존 컬렉션을 유지한 채 바뀐 위치만 수정
+     * 1. 같은 위치의 URL이 다르면 교체 (UPDATE)
+     * 2. 늘어난 뒤쪽은 추가 (INSERT), 줄어든 뒤쪽은 삭제 (DELETE)
+     * @param newContent : 검증이 끝난 새 Content
+     */
+    public void update(Content newContent) {
+        this.content = newContent.content;
+
+        List<String> newImageUrls = newContent.imageUrls;
+        int common = Math.min(imageUrls.size(), newImageUrls.size());
+        for (int i = 0; i < common; i++) {
+            if (!Objects.equals(imageUrls.get(i), newImageUrls.get(i))) {
+                imageUrls.set(i, newImageUrls.get(i));
+            }
+        }
+        if (newImageUrls.size() > common) {
+            imageUrls.addAll(newImageUrls.subList(common, newImageUrls.size()));
+        } else if (imageUrls.size() > common) {
+            imageUrls.subList(common, imageUrls.size()).clear();
+        }
     }
 
     private void validate(String content) {
@@ -0,0 +1,24 @@
+package com.smallsquare.modules.post.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기글 점수 계산에 쓰는 게시글 한 건의 활동량
+ */
+@Getter
+@AllArgsConstructor
+public class PostActivity {
+
+    private final Long postId;
+
+    private final long likeCount;
+
+    private final long commentCount;
+
+    private final long viewCount;
+
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,30 @@
+package com.smallsquare.modules.post.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과 한 건 (하이라이트 전 원문)
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchHit {
+
+    private final Long postId;
+
+    private final String title;
+
+    private final String content;
+
+    private final String nickname;
+
+    private final long commentCount;
+
+    private final long likeCount;
+
+    private final long viewCount;
+
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,55 @@
+package com.smallsquare.modules.post.domain.vo;
+
+import com.smallsquare.modules.post.exception.exception.PostException;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.smallsquare.modules.post.exception.errorCode.PostErrorCode.SEARCH_KEYWORD_WRONG_PATTERN;
+
+/**
+ * 검색어
+ * 공백으로 나눈 단어를 모두 포함하는 게시글을 찾음 (AND)
+ * ngram 인덱스는 2글자 단위라 1글자 단어는 검색할 수 없으므로 제외
+ */
+@Getter
+public class SearchKeyword {
+
+    private static final int MAX_LENGTH = 100;
+    private static final int MIN_TERM_LENGTH = 2;
+
+    // BOOLEAN MODE 연산자로 해석되는 문자
+    private static final String OPERATOR_CHARS = "[+\\-<>()~*\"@]";
+
+    private final List<String> terms;
+
+    public SearchKeyword(String keyword) {
+        if (keyword == null || keyword.length() > MAX_LENGTH) {
+            throw new PostException(SEARCH_KEYWORD_WRONG_PATTERN);
+        }
+        this.terms = Arrays.stream(keyword.replaceAll(OPERATOR_CHARS, " ").trim().split("\\s+"))
+                .filter(term -> term.length() >= MIN_TERM_LENGTH)
+                .distinct()
+                .toList();
+        if (terms.isEmpty()) {
+            throw new PostException(SEARCH_KEYWORD_WRONG_PATTERN);
+        }
+    }
+
+    /**
+     * MATCH ... AGAINST(... IN BOOLEAN MODE) 검색식
+     * 단어마다 "단어"(ngram 구문 일치) + 필수(+)
+     * @return ex) +"스프링" +"게시판"
+     */
+    public String toBooleanQuery() {
+        StringBuilder query = new StringBuilder();
+        for (String term : terms) {
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append("+\"").append(term).append('"');
+        }
+        return query.toString();
+    }
+}
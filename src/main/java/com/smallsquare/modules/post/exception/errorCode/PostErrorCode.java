@@ -14,7 +14,10 @@ public enum PostErrorCode {
     CONTENT_NOT_NULL("내용은 필수 값입니다.", HttpStatus.BAD_REQUEST),
     CONTENT_WRONG_PATTERN("내용은 1000자 이하만 가능합니다.", HttpStatus.BAD_REQUEST),
     POST_NOT_FOUND("게시글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
-    POST_NOT_OWNER("게시글 작성자가 아닙니다.", HttpStatus.BAD_REQUEST);
+    POST_NOT_OWNER("게시글 작성자가 아닙니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("올바르지 않은 페이지 커서입니다.", HttpStatus.BAD_REQUEST),
+    SEARCH_KEYWORD_WRONG_PATTERN("검색어는 2글자 이상 단어를 포함해야 하며 100자 이하만 가능합니다.", HttpStatus.BAD_REQUEST),
+    SEARCH_INDEX_REBUILD_IN_PROGRESS("검색 인덱스를 재구성하고 있습니다.", HttpStatus.CONFLICT);
 
 
 
@@ -0,0 +1,54 @@
+package com.smallsquare.modules.post.infrastructure.counter;
+
+import com.smallsquare.modules.post.domain.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 댓글 수 보정
+ * 증가분 반영은 댓글 작성/삭제와 같은 트랜잭션이지만, 직접 수정된 데이터나 보정 중 겹친 변경으로 생긴 차이를
+ * post_id 범위(chunk)마다 실제 댓글 수로 다시 계산해서 맞춤
+ * chunk마다 별도 UPDATE 한 번이므로 한 번에 많은 행의 락을 오래 잡지 않음
+ */
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+    private final int chunkSize;
+
+    public CommentCountReconciler(PostRepository postRepository,
+                                  @Value("${COMMENT_COUNT_RECONCILE_CHUNK_SIZE:1000}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(initialDelayString = "${COMMENT_COUNT_RECONCILE_INTERVAL_MS:3600000}",
+            fixedDelayString = "${COMMENT_COUNT_RECONCILE_INTERVAL_MS:3600000}")
+    public void reconcile() {
+        long maxPostId;
+        try {
+            maxPostId = postRepository.findMaxId();
+        } catch (Exception e) {
+            log.warn("댓글 수 보정 실패", e);
+            return;
+        }
+
+        int fixed = 0;
+        for (long from = 1; from <= maxPostId; from += chunkSize) {
+            long to = Math.min(from + chunkSize - 1, maxPostId);
+            try {
+                fixed += postRepository.reconcileCommentCounts(from, to);
+            } catch (Exception e) {
+                // 실패한 범위는 다음 주기에 다시 보정
+                log.warn("댓글 수 보정 실패 post_id={}~{}", from, to, e);
+            }
+        }
+
+        if (fixed > 0) {
+            log.info("댓글 수 보정 완료 수정된 게시글={}", fixed);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.smallsquare.modules.post.infrastructure.redis;
+
+import com.smallsquare.modules.post.domain.repository.PostQueryRepository;
+import com.smallsquare.modules.post.domain.vo.PostActivity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 인기글 순위 (Redis Sorted Set)
+ * 점수 = Σ 활동 가중치 × 2^((활동 시각 - epoch) / 반감기)
+ * 새 활동일수록 큰 값을 더하는 방식이라 기존 점수를 매번 줄이지 않아도 반감기마다 과거 활동의 비중이 절반이 됨 (시간 감쇠)
+ * 1. 작성/좋아요/댓글/조회가 생기면 ZINCRBY로 점수만 증가 (epoch는 Redis에서 읽으므로 서버마다 같은 기준)
+ * 2. 인기글 조회는 ZREVRANGE로 id만 가져와서 DB IN 조회 한 번으로 채움
+ * 3. 주기적으로 상위 maxSize개만 남기고, MySQL 기준으로 새 epoch로 다시 만들어서 교체 (복구 + 점수 크기 재조정)
+ */
+@Slf4j
+@Component
+public class HotPostRanking {
+
+    private static final String HOT_KEY = "post:hot";
+    private static final String EPOCH_KEY = "post:hot:epoch";
+    private static final String BUILDING_PREFIX = "post:hot:building:";
+
+    private static final double POST_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 3.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double VIEW_WEIGHT = 0.1;
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    // KEYS[1]: 순위, KEYS[2]: epoch / ARGV[1]: 현재 시각(초), ARGV[2]: 반감기(초), ARGV[3..]: postId, 가중치 쌍
+    // epoch가 없으면(아직 만들기 전) 무시 -> 재구성 때 DB 값으로 반영됨
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = redis.call('GET', KEYS[2]) " +
+            "if not epoch then return 0 end " +
+            "local factor = 2 ^ ((tonumber(ARGV[1]) - tonumber(epoch)) / tonumber(ARGV[2])) " +
+            "for i = 3, #ARGV, 2 do redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[i + 1]) * factor, ARGV[i]) end " +
+            "return 1",
+            Long.class
+    );
+
+    // KEYS[1]: 새로 만든 순위, KEYS[2]: 순위, KEYS[3]: epoch / ARGV[1]: 새 epoch
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "else redis.call('DEL', KEYS[2]) end " +
+            "redis.call('SET', KEYS[3], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostQueryRepository postQueryRepository;
+    private final long halfLifeSeconds;
+    private final int maxSize;
+    private final Duration window;
+
+    public HotPostRanking(StringRedisTemplate redisTemplate,
+                          PostQueryRepository postQueryRepository,
+                          @Value("${HOT_POST_HALF_LIFE_HOURS:12}") long halfLifeHours,
+                          @Value("${HOT_POST_MAX_SIZE:1000}") int maxSize,
+                          @Value("${HOT_POST_WINDOW_DAYS:7}") long windowDays) {
+        this.redisTemplate = redisTemplate;
+        this.postQueryRepository = postQueryRepository;
+        this.halfLifeSeconds = Duration.ofHours(halfLifeHours).toSeconds();
+        this.maxSize = maxSize;
+        this.window = Duration.ofDays(windowDays);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    // 게시글 작성 (커밋 후 반영)
+    public void recordPost(Long postId) {
+        afterCommit(() -> increment(Map.of(postId, POST_WEIGHT)));
+    }
+
+    /**
+     * 좋아요 증감 (커밋 후 반영)
+     * 취소(음수)는 무시: 지금 시각의 감쇠 계수로 빼면 원래 더했던 값보다 크게 빠져서 실제보다 낮아짐 (음수까지)
+     * 취소된 좋아요는 주기적인 재구성(DB 기준)에서 빠짐
+     */
+    public void recordLikes(Long postId, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        afterCommit(() -> increment(Map.of(postId, delta * LIKE_WEIGHT)));
+    }
+
+    // 댓글 증감 (커밋 후 반영, 삭제(음수)는 좋아요 취소와 같은 이유로 무시하고 재구성에서 반영)
+    public void recordComments(Long postId, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        afterCommit(() -> increment(Map.of(postId, delta * COMMENT_WEIGHT)));
+    }
+
+    // 조회수 증가분 (조회수 flush 때 한 번에 반영)
+    public void recordViews(Map<Long, Long> deltas) {
+        Map<Long, Double> weights = new HashMap<>();
+        deltas.forEach((postId, delta) -> weights.put(postId, delta * VIEW_WEIGHT));
+        increment(weights);
+    }
+
+    /**
+     * 인기글 id 조회 (점수 높은 순)
+     * @param offset
+     * @param count
+     * @return postId 목록
+     */
+    public List<Long> findTopIds(long offset, long count) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(HOT_KEY, offset, offset + count - 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::parseLong).toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(EPOCH_KEY))) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("인기글 순위 초기화 실패", e);
+        }
+    }
+
+    // 상위 maxSize개만 남김 (오래되어 점수가 낮아진 게시글 정리)
+    @Scheduled(initialDelayString = "${HOT_POST_TRIM_INTERVAL_MS:60000}",
+            fixedDelayString = "${HOT_POST_TRIM_INTERVAL_MS:60000}")
+    public void trim() {
+        try {
+            redisTemplate.opsForZSet().removeRange(HOT_KEY, 0, -(maxSize + 1L));
+        } catch (Exception e) {
+            log.warn("인기글 순위 정리 실패", e);
+        }
+    }
+
+    /**
+     * MySQL 기준으로 순위를 새로 만들어서 교체
+     * 1. 새 epoch(현재 시각) 기준으로 최근 window 동안 작성된 게시글 점수를 임시 키에 기록 (활동 시각은 작성 시각으로 근사)
+     * 2. 상위 maxSize개만 남기고 RENAME + epoch 변경을 한 번에 (Lua)
+     * 재구성 도중 들어온 증가분은 이전 순위에 반영되었다가 교체되면서 빠질 수 있음 (다음 활동부터 다시 반영)
+     */
+    @Scheduled(initialDelayString = "${HOT_POST_REBUILD_INTERVAL_MS:21600000}",
+            fixedDelayString = "${HOT_POST_REBUILD_INTERVAL_MS:21600000}")
+    public void rebuild() {
+        String buildingKey = BUILDING_PREFIX + UUID.randomUUID();
+        long epoch = nowSeconds();
+        LocalDateTime since = LocalDateTime.now().minus(window);
+
+        try {
+            List<PostActivity> activities;
+            LocalDateTime cursorCreatedAt = null;
+            Long cursorId = null;
+            do {
+                activities = postQueryRepository.findActivitiesSince(since, cursorCreatedAt, cursorId, REBUILD_CHUNK_SIZE);
+                if (activities.isEmpty()) {
+                    break;
+                }
+                addAll(buildingKey, activities, epoch);
+
+                PostActivity last = activities.get(activities.size() - 1);
+                cursorCreatedAt = last.getCreatedAt();
+                cursorId = last.getPostId();
+            } while (activities.size() == REBUILD_CHUNK_SIZE);
+
+            redisTemplate.opsForZSet().removeRange(buildingKey, 0, -(maxSize + 1L));
+            redisTemplate.execute(SWAP_SCRIPT, List.of(buildingKey, HOT_KEY, EPOCH_KEY), String.valueOf(epoch));
+        } catch (Exception e) {
+            // 실패하면 기존 순위 유지 (다음 주기에 재시도)
+            redisTemplate.delete(buildingKey);
+            log.warn("인기글 순위 재구성 실패", e);
+        }
+    }
+
+    private void addAll(String key, List<PostActivity> activities, long epoch) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (PostActivity activity : activities) {
+                double weight = POST_WEIGHT
+                        + activity.getLikeCount() * LIKE_WEIGHT
+                        + activity.getCommentCount() * COMMENT_WEIGHT
+                        + activity.getViewCount() * VIEW_WEIGHT;
+                long createdAt = activity.getCreatedAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+                stringConnection.zAdd(key, weight * decayFactor(createdAt, epoch), activity.getPostId().toString());
+            }
+            return null;
+        });
+    }
+
+    private void increment(Map<Long, Double> weights) {
+        if (weights.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(2 + weights.size() * 2);
+        args.add(String.valueOf(nowSeconds()));
+        args.add(String.valueOf(halfLifeSeconds));
+        weights.forEach((postId, weight) -> {
+            args.add(postId.toString());
+            args.add(String.valueOf(weight));
+        });
+
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(HOT_KEY, EPOCH_KEY), args.toArray());
+        } catch (Exception e) {
+            // 순위는 다음 재구성 때 DB 값으로 보정됨
+            log.warn("인기글 점수 반영 실패", e);
+        }
+    }
+
+    private double decayFactor(long activityAt, long epoch) {
+        return Math.pow(2, (double) (activityAt - epoch) / halfLifeSeconds);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -0,0 +1,167 @@
+package com.smallsquare.modules.post.infrastructure.redis;
+
+import com.smallsquare.modules.post.domain.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ * 1. 조회할 때마다 Redis Hash(pending)에 HINCRBY (post 행에 락을 잡지 않음)
+ * 2. 주기적으로 pending을 flushing으로 RENAME 해서 가져간 뒤 누적된 증가분을 batch UPDATE로 한 번에 반영
+ * 3. 조회수를 보여줄 때는 DB 값 + 아직 반영되지 않은 증가분(pending + flushing)을 합쳐서 반환
+ * flush는 lease 키(SET NX PX)를 잡은 서버 하나만 실행하므로 같은 증가분을 두 번 반영하지 않음
+ * 키 이름이 고정이라 스크립트가 읽는 키를 모두 KEYS로 전달하고(ACL 키 패턴 적용 가능),
+ * 같은 hash tag({post:views})를 붙여 Redis Cluster에서도 한 슬롯에 놓이도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private static final String PENDING_KEY = "{post:views}:pending";
+    private static final String FLUSHING_KEY = "{post:views}:flushing";
+    private static final String FLUSH_LEASE_KEY = "{post:views}:flush-lease";
+
+    // flush 도중 서버가 종료되어도 이 시간이 지나면 다른 서버가 lease를 잡고 남은 flushing을 반영 (정상 flush는 수 초 안에 끝남)
+    private static final Duration FLUSH_LEASE_TTL = Duration.ofMinutes(5);
+
+    // KEYS[1]: pending, KEYS[2]: flushing / ARGV[1]: postId
+    // 반환: 증가 후 pending + flushing 증가분 합계
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local total = redis.call('HINCRBY', KEYS[1], ARGV[1], 1) " +
+            "return total + (tonumber(redis.call('HGET', KEYS[2], ARGV[1])) or 0)",
+            Long.class
+    );
+
+    // KEYS[1]: pending, KEYS[2]: flushing / ARGV: postId 목록
+    // 반환: postId 순서대로 pending + flushing 증가분 합계
+    private static final RedisScript<List> PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local pending = redis.call('HMGET', KEYS[1], unpack(ARGV)) " +
+            "local flushing = redis.call('HMGET', KEYS[2], unpack(ARGV)) " +
+            "local result = {} " +
+            "for i = 1, #ARGV do " +
+            "  result[i] = (tonumber(pending[i]) or 0) + (tonumber(flushing[i]) or 0) " +
+            "end " +
+            "return result",
+            List.class
+    );
+
+    // KEYS[1]: pending, KEYS[2]: flushing
+    // 1: 반영할 flushing이 있음 (이전 flush가 남긴 키 또는 방금 가져온 pending) / 0: 반영할 것 없음
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return 1 end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    // KEYS[1]: lease / ARGV[1]: lease를 잡을 때 넣은 값 (자기 lease만 해제)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
+    private final HotPostRanking hotPostRanking;
+
+    /**
+     * 조회수 1 증가
+     * @param postId
+     * @return 아직 DB에 반영되지 않은 증가분 (이번 조회, flush 중인 증가분 포함)
+     */
+    public long increment(Long postId) {
+        Long pending = redisTemplate.execute(INCREMENT_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY), postId.toString());
+        return pending != null ? pending : 0;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분을 한 번에 조회 (flush 중인 증가분 포함, 스크립트 한 번)
+     * @param postIds
+     * @return postId -> 증가분 (없으면 포함하지 않음)
+     */
+    public Map<Long, Long> getPendingViews(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String[] fields = postIds.stream().map(String::valueOf).toArray(String[]::new);
+        List<?> values = redisTemplate.execute(PENDING_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY), (Object[]) fields);
+
+        Map<Long, Long> pendingViews = new HashMap<>();
+        if (values == null) {
+            return pendingViews;
+        }
+        for (int i = 0; i < postIds.size(); i++) {
+            long value = ((Number) values.get(i)).longValue();
+            if (value != 0) {
+                pendingViews.put(postIds.get(i), value);
+            }
+        }
+        return pendingViews;
+    }
+
+    /**
+     * 누적된 증가분을 DB에 반영 (lease를 잡은 서버만 실행)
+     * 1. 이전 flush 중 서버가 종료되어 flushing이 남아 있으면 먼저 반영
+     * 2. pending을 flushing으로 RENAME (이후 조회는 새 pending에 쌓임)
+     * 3. batch UPDATE(한 트랜잭션) 후 flushing 삭제
+     * DB 반영 후 키 삭제 전에 종료되면 같은 증가분이 한 번 더 반영될 수 있음 (조회수라서 허용)
+     * 커밋과 키 삭제 사이의 짧은 시간에는 화면의 조회수가 증가분만큼 크게 보일 수 있음
+     */
+    @Scheduled(initialDelayString = "${POST_VIEW_FLUSH_INTERVAL_MS:5000}",
+            fixedDelayString = "${POST_VIEW_FLUSH_INTERVAL_MS:5000}")
+    public void flush() {
+        String leaseToken = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LEASE_KEY, leaseToken, FLUSH_LEASE_TTL))) {
+            return;
+        }
+
+        try {
+            // 처음 반영한 것이 남은 flushing이었으면 pending까지 한 번 더 (그 사이 쌓인 증가분은 다음 주기에)
+            if (claimAndFlush()) {
+                claimAndFlush();
+            }
+        } catch (Exception e) {
+            // 실패한 증가분은 flushing에 남아 다음 주기에 다시 반영
+            log.warn("게시글 조회수 반영 실패", e);
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(FLUSH_LEASE_KEY), leaseToken);
+        }
+    }
+
+    // 반영할 flushing이 없으면 false
+    private boolean claimAndFlush() {
+        Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY));
+        if (claimed == null || claimed == 0) {
+            return false;
+        }
+
+        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+        Map<Long, Long> deltas = new HashMap<>();
+        hashOperations.entries(FLUSHING_KEY).forEach((postId, delta) ->
+                deltas.put(Long.parseLong(postId), Long.parseLong(delta)));
+
+        // 전부 반영되거나 전부 롤백 (일부만 반영된 뒤 다시 반영되어 두 번 더해지지 않도록)
+        postRepository.addViewCounts(deltas);
+        hotPostRanking.recordViews(deltas);
+        redisTemplate.delete(FLUSHING_KEY);
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package com.smallsquare.modules.post.infrastructure.repository;
 
 import com.smallsquare.modules.post.domain.entity.Post;
+import com.smallsquare.modules.post.domain.enums.PostStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +12,6 @@ public interface JpaPostRepository extends JpaRepository<Post, Long> {
 
     Optional<Post> findById(Long postId);
 
+    boolean existsByIdAndPostStatus(Long postId, PostStatus postStatus);
+
 }
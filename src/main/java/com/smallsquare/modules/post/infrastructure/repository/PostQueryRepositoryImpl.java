@@ -0,0 +1,131 @@
+package com.smallsquare.modules.post.infrastructure.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.smallsquare.modules.post.domain.entity.QPost;
+import com.smallsquare.modules.post.domain.enums.PostStatus;
+import com.smallsquare.modules.post.domain.repository.PostQueryRepository;
+import com.smallsquare.modules.post.domain.vo.PostActivity;
+import com.smallsquare.modules.post.web.dto.response.PostSummaryResDto;
+import com.smallsquare.modules.user.domain.entity.QUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class PostQueryRepositoryImpl implements PostQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 1. 인덱스(post_status, created_at, post_id)만으로 이번 페이지의 post_id 조회
+     *    커서 위치부터 인덱스를 바로 탐색하므로 OFFSET처럼 앞 페이지 행을 읽고 버리지 않음 (깊은 페이지도 첫 페이지와 비용이 같음)
+     * 2. 조회한 post_id로 필요한 컬럼만 DTO로 조회 (Post 엔티티, imageUrls 컬렉션은 로딩하지 않음)
+     */
+    @Override
+    public List<PostSummaryResDto> findFeed(LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        QPost post = QPost.post;
+
+        // 1. 커버링 인덱스로 id만 조회
+        List<Long> postIds = jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .where(
+                        post.postStatus.eq(PostStatus.ACTIVE),
+                        beforeCursor(post, cursorCreatedAt, cursorId)
+                )
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
+
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 2. 해당 id의 게시글만 DTO로 조회
+        return selectSummaries()
+                .where(post.id.in(postIds))
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public List<PostSummaryResDto> findSummariesByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        QPost post = QPost.post;
+        return selectSummaries()
+                .where(
+                        post.id.in(postIds),
+                        post.postStatus.eq(PostStatus.ACTIVE)
+                )
+                .fetch();
+    }
+
+    // 인덱스(post_status, created_at, post_id) 순서로 읽음
+    @Override
+    public List<PostActivity> findActivitiesSince(LocalDateTime since, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        QPost post = QPost.post;
+        return jpaQueryFactory
+                .select(Projections.constructor(PostActivity.class,
+                        post.id,
+                        post.likeCount.coalesce(0L),
+                        post.commentCount.coalesce(0L),
+                        post.viewCount.coalesce(0L),
+                        post.createdAt
+                ))
+                .from(post)
+                .where(
+                        post.postStatus.eq(PostStatus.ACTIVE),
+                        post.createdAt.goe(since),
+                        afterCursor(post, cursorCreatedAt, cursorId)
+                )
+                .orderBy(post.createdAt.asc(), post.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 피드 목록 한 건 프로젝션 (Post 엔티티, imageUrls 컬렉션은 로딩하지 않음)
+    private JPAQuery<PostSummaryResDto> selectSummaries() {
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+        return jpaQueryFactory
+                .select(Projections.constructor(PostSummaryResDto.class,
+                        post.id,
+                        post.title.title,
+                        user.nickname.nickname,
+                        post.commentCount,
+                        post.likeCount,
+                        post.dislikeCount,
+                        post.viewCount,
+                        post.createdAt
+                ))
+                .from(post)
+                .join(post.user, user);
+    }
+
+    // (created_at, post_id) < (cursorCreatedAt, cursorId), 첫 페이지면 조건 없음
+    private BooleanExpression beforeCursor(QPost post, LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return post.createdAt.lt(cursorCreatedAt)
+                .or(post.createdAt.eq(cursorCreatedAt).and(post.id.lt(cursorId)));
+    }
+
+    // (created_at, post_id) > (cursorCreatedAt, cursorId), 첫 chunk면 조건 없음
+    private BooleanExpression afterCursor(QPost post, LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return post.createdAt.gt(cursorCreatedAt)
+                .or(post.createdAt.eq(cursorCreatedAt).and(post.id.gt(cursorId)));
+    }
+}
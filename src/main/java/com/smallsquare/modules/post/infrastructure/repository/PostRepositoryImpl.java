@@ -1,17 +1,39 @@
 package com.smallsquare.modules.post.infrastructure.repository;
 
 import com.smallsquare.modules.post.domain.entity.Post;
+import com.smallsquare.modules.post.domain.enums.PostStatus;
 import com.smallsquare.modules.post.domain.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepository {
 
+    private static final int VIEW_COUNT_BATCH_SIZE = 500;
+
+    private static final String RECONCILE_COMMENT_COUNT_SQL = """
+            UPDATE post p
+            LEFT JOIN (
+                SELECT c.post_id, COUNT(*) AS cnt
+                FROM comment c
+                WHERE c.post_id BETWEEN ? AND ?
+                  AND c.comment_status = 'ACTIVE'
+                GROUP BY c.post_id
+            ) c ON c.post_id = p.post_id
+            SET p.comment_count = COALESCE(c.cnt, 0)
+            WHERE p.post_id BETWEEN ? AND ?
+              AND NOT (p.comment_count <=> COALESCE(c.cnt, 0))
+            """;
+
     private final JpaPostRepository jpaPostRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Post save(Post post) {
@@ -22,4 +44,56 @@ public class PostRepositoryImpl implements PostRepository {
     public Optional<Post> findById(Long postId) {
         return jpaPostRepository.findById(postId);
     }
+
+    @Override
+    public boolean existsActiveById(Long postId) {
+        return jpaPostRepository.existsByIdAndPostStatus(postId, PostStatus.ACTIVE);
+    }
+
+    /**
+     * 엔티티를 로딩하지 않고 JDBC batch로 반영 (post_id 순서로 정렬해서 락 순서를 일정하게 유지)
+     * 여러 batch를 한 트랜잭션으로 묶어서 중간에 실패하면 전부 롤백 (다시 반영할 때 두 번 더해지지 않도록)
+     */
+    @Override
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        for (int from = 0; from < args.size(); from += VIEW_COUNT_BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE post SET view_count = view_count + ? WHERE post_id = ?",
+                    args.subList(from, Math.min(from + VIEW_COUNT_BATCH_SIZE, args.size()))
+            );
+        }
+    }
+
+    // 조회수와 같은 방식 (post_id 순서로 락 획득)
+    @Override
+    public void addCommentCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE post SET comment_count = comment_count + ? WHERE post_id = ?", args);
+        }
+    }
+
+    // 값이 같은 행은 수정하지 않으므로 어긋난 게시글만 락이 잡힘
+    @Override
+    public int reconcileCommentCounts(long fromPostId, long toPostId) {
+        return jdbcTemplate.update(RECONCILE_COMMENT_COUNT_SQL, fromPostId, toPostId, fromPostId, toPostId);
+    }
+
+    @Override
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(post_id) FROM post", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
 }
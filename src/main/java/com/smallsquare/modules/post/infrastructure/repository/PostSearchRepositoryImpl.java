@@ -0,0 +1,77 @@
+package com.smallsquare.modules.post.infrastructure.repository;
+
+import com.smallsquare.modules.post.domain.repository.PostSearchRepository;
+import com.smallsquare.modules.post.domain.vo.PostSearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 기반 게시글 검색
+ * LIKE '%keyword%'와 달리 인덱스에서 키워드를 포함한 문서만 찾으므로 게시글 수가 늘어도 전체 행을 읽지 않음
+ * InnoDB FULLTEXT 인덱스는 INSERT/UPDATE 커밋 시 자동으로 갱신됨 (작성/수정 후 별도 색인 작업 없음)
+ * ngram parser는 공백 단위가 아니라 2글자(ngram_token_size) 단위로 색인하므로 조사가 붙은 한국어도 검색됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchRepositoryImpl implements PostSearchRepository {
+
+    private static final String INDEX_NAME = "ft_post_title_content";
+
+    private static final String SEARCH_SQL = """
+            SELECT p.post_id, p.title, p.content, u.nickname,
+                   p.comment_count, p.like_count, p.view_count, p.created_at
+            FROM post p
+            JOIN `user` u ON u.user_id = p.user_id
+            WHERE MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE)
+              AND p.post_status = 'ACTIVE'
+              AND (:cursorId IS NULL OR p.post_id < :cursorId)
+            ORDER BY p.post_id DESC
+            LIMIT :limit
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<PostSearchHit> search(String booleanQuery, Long cursorId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", booleanQuery)
+                .addValue("cursorId", cursorId)
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> new PostSearchHit(
+                rs.getLong("post_id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getString("nickname"),
+                rs.getLong("comment_count"),
+                rs.getLong("like_count"),
+                rs.getLong("view_count"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ));
+    }
+
+    @Override
+    public boolean existsFullTextIndex() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void createFullTextIndex() {
+        jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX " + INDEX_NAME + " (title, content) WITH PARSER ngram");
+    }
+
+    @Override
+    public void dropFullTextIndex() {
+        jdbcTemplate.execute("ALTER TABLE post DROP INDEX " + INDEX_NAME);
+    }
+}
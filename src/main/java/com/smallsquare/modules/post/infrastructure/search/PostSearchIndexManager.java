@@ -0,0 +1,66 @@
+package com.smallsquare.modules.post.infrastructure.search;
+
+import com.smallsquare.modules.post.domain.repository.PostSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글 검색용 FULLTEXT 인덱스 관리
+ * 인덱스 생성은 배포 DDL(resources/db/ddl/post_search_fulltext_index.sql)로 하고, 시작 시에는 존재 여부만 확인
+ * 재구성(ngram_token_size 변경, 인덱스 손상 등)은 관리자 API로만 실행 (테이블을 다시 쓰므로 자동 실행하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexManager {
+
+    private final PostSearchRepository postSearchRepository;
+
+    // 같은 서버에서 재구성이 겹치지 않도록 함
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkIndex() {
+        try {
+            if (!postSearchRepository.existsFullTextIndex()) {
+                // 인덱스가 없으면 검색만 실패하고 나머지 기능은 동작
+                log.warn("게시글 검색 인덱스가 없습니다. db/ddl/post_search_fulltext_index.sql을 실행하세요.");
+            }
+        } catch (Exception e) {
+            log.warn("게시글 검색 인덱스 확인 실패", e);
+        }
+    }
+
+    /**
+     * 재구성 시작 권한 획득
+     * @return 이미 재구성 중이면 false
+     */
+    public boolean tryStartRebuild() {
+        return rebuilding.compareAndSet(false, true);
+    }
+
+    /**
+     * 인덱스를 지우고 post 테이블 전체로 다시 만듦 (tryStartRebuild 성공 후 호출, 비동기 실행)
+     * 재구성하는 동안은 검색이 실패함
+     */
+    @Async
+    public void rebuild() {
+        try {
+            if (postSearchRepository.existsFullTextIndex()) {
+                postSearchRepository.dropFullTextIndex();
+            }
+            postSearchRepository.createFullTextIndex();
+            log.info("게시글 검색 인덱스 재구성 완료");
+        } catch (Exception e) {
+            log.warn("게시글 검색 인덱스 재구성 실패", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.smallsquare.modules.post.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 결과 하이라이트
+ * 원문은 HTML escape 하고 검색어와 일치하는 부분만 <em>으로 감싸서 반환 (대소문자 무시)
+ */
+public final class SearchHighlighter {
+
+    private static final String OPEN_TAG = "<em>";
+    private static final String CLOSE_TAG = "</em>";
+    private static final String ELLIPSIS = "...";
+
+    // 본문 요약에서 첫 일치 위치 앞에 보여줄 글자 수
+    private static final int SNIPPET_LEADING = 40;
+
+    private SearchHighlighter() {
+    }
+
+    /**
+     * 전체 문자열 하이라이트 (제목)
+     * @param text
+     * @param terms
+     * @return escape + 하이라이트된 문자열
+     */
+    public static String highlight(String text, List<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        List<int[]> ranges = findRanges(text, terms);
+        StringBuilder result = new StringBuilder(text.length() + ranges.size() * 9);
+        int position = 0;
+        for (int[] range : ranges) {
+            appendEscaped(result, text, position, range[0]);
+            result.append(OPEN_TAG);
+            appendEscaped(result, text, range[0], range[1]);
+            result.append(CLOSE_TAG);
+            position = range[1];
+        }
+        appendEscaped(result, text, position, text.length());
+        return result.toString();
+    }
+
+    /**
+     * 본문 요약 (첫 일치 위치 주변 length 글자) 하이라이트
+     * 본문에 일치하는 부분이 없으면(제목만 일치) 앞부분을 반환
+     * @param content
+     * @param terms
+     * @param length
+     * @return escape + 하이라이트된 요약
+     */
+    public static String snippet(String content, List<String> terms, int length) {
+        if (content == null) {
+            return null;
+        }
+        List<int[]> ranges = findRanges(content, terms);
+        int start = ranges.isEmpty() ? 0 : Math.max(0, ranges.get(0)[0] - SNIPPET_LEADING);
+        int end = Math.min(content.length(), start + length);
+
+        // 요약 경계에 걸린 검색어가 잘리지 않도록 끝을 조정
+        for (int[] range : ranges) {
+            if (range[0] < end && range[1] > end) {
+                end = range[1];
+            }
+        }
+
+        String body = highlight(content.substring(start, end), terms);
+        return (start > 0 ? ELLIPSIS : "") + body + (end < content.length() ? ELLIPSIS : "");
+    }
+
+    // 일치 구간 [start, end) 목록 (시작 위치 순, 겹치는 구간은 합침)
+    private static List<int[]> findRanges(String text, List<String> terms) {
+        List<int[]> ranges = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            int longest = 0;
+            for (String term : terms) {
+                if (term.length() > longest && text.regionMatches(true, i, term, 0, term.length())) {
+                    longest = term.length();
+                }
+            }
+            if (longest == 0) {
+                continue;
+            }
+            int end = i + longest;
+            int[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && i <= last[1]) {
+                last[1] = Math.max(last[1], end);
+            } else {
+                ranges.add(new int[]{i, end});
+            }
+        }
+        return ranges;
+    }
+
+    private static void appendEscaped(StringBuilder result, String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> result.append("&amp;");
+                case '<' -> result.append("&lt;");
+                case '>' -> result.append("&gt;");
+                case '"' -> result.append("&quot;");
+                case '\'' -> result.append("&#39;");
+                default -> result.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.smallsquare.modules.post.web.controller;
+
+import com.smallsquare.modules.post.application.service.PostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/posts")
+public class PostAdminController {
+
+    private final PostService postService;
+
+    /**
+     * 게시글 검색 인덱스 재구성 (관리자)
+     * 인덱스를 지우고 다시 만드므로 끝날 때까지 검색이 실패함 (트래픽이 적은 시간에 실행)
+     * @return 202 Accepted (비동기 실행) / 409 이미 재구성 중
+     */
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<Void> rebuildSearchIndex() {
+        postService.rebuildSearchIndex();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+}
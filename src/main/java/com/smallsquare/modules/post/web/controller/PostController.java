@@ -3,15 +3,22 @@ package com.smallsquare.modules.post.web.controller;
 import com.smallsquare.modules.post.application.service.PostService;
 import com.smallsquare.modules.post.web.dto.request.CreatePostReqDto;
 import com.smallsquare.modules.post.web.dto.request.UpdatePostReqDto;
+import com.smallsquare.modules.post.web.dto.response.HotPostPageResDto;
+import com.smallsquare.modules.post.web.dto.response.PostDetailResDto;
+import com.smallsquare.modules.post.web.dto.response.PostFeedResDto;
+import com.smallsquare.modules.post.web.dto.response.PostSearchPageResDto;
 import com.smallsquare.modules.post.web.dto.response.UpdatePostResDto;
 import com.smallsquare.modules.user.infrastructure.auth.model.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/posts")
@@ -25,9 +32,70 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    /**
+     * 최신순 피드 조회
+     * @param cursorCreatedAt, cursorId : 이전 페이지 응답의 nextCursorCreatedAt, nextCursorId (첫 페이지는 생략)
+     * @param size : 한 페이지 게시글 수 (기본 20, 최대 50)
+     * @return 200 Success / PostFeedResDto
+     */
+    @GetMapping("/")
+    public ResponseEntity<PostFeedResDto> getFeed(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+                                                  @RequestParam(required = false) Long cursorId,
+                                                  @RequestParam(required = false) Integer size) {
+        PostFeedResDto resDto = postService.getFeed(userIdOf(userDetails), cursorCreatedAt, cursorId, size);
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
+
+    /**
+     * 인기글 조회 (좋아요, 댓글, 조회수와 작성 후 경과 시간으로 계산한 순위)
+     * @param page : 0부터 시작 (생략하면 0)
+     * @param size : 한 페이지 게시글 수 (기본 20, 최대 50)
+     * @return 200 Success / HotPostPageResDto
+     */
+    @GetMapping("/hot")
+    public ResponseEntity<HotPostPageResDto> getHotPosts(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                         @RequestParam(required = false) Integer page,
+                                                         @RequestParam(required = false) Integer size) {
+        HotPostPageResDto resDto = postService.getHotPosts(userIdOf(userDetails), page, size);
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
+
+    /**
+     * 게시글 검색 (제목 + 본문, 최신순)
+     * @param keyword : 공백으로 구분한 단어를 모두 포함하는 게시글 검색 (2글자 이상 단어)
+     * @param cursorId : 이전 페이지 응답의 nextCursorId (첫 페이지는 생략)
+     * @param size : 한 페이지 게시글 수 (기본 20, 최대 50)
+     * @return 200 Success / PostSearchPageResDto
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchPageResDto> search(@RequestParam String keyword,
+                                                       @RequestParam(required = false) Long cursorId,
+                                                       @RequestParam(required = false) Integer size) {
+        PostSearchPageResDto resDto = postService.search(keyword, cursorId, size);
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
+
+    /**
+     * 게시글 상세 조회 (조회수 증가)
+     * @param postId
+     * @return 200 Success / PostDetailResDto
+     */
+    @GetMapping("/{postId}")
+    public ResponseEntity<PostDetailResDto> getPost(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                    @PathVariable Long postId) {
+        PostDetailResDto resDto = postService.getPost(userIdOf(userDetails), postId);
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
+
     @PatchMapping("/")
     public ResponseEntity<UpdatePostResDto> updatePost(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestBody UpdatePostReqDto reqDto) {
         UpdatePostResDto resDto = postService.updatePost(userDetails.getUserId(), reqDto);
         return ResponseEntity.status(HttpStatus.OK).body(resDto);
     }
+
+    // 로그인하지 않은 요청도 허용하는 API에서 사용 (비로그인이면 null)
+    private Long userIdOf(CustomUserDetails userDetails) {
+        return userDetails != null ? userDetails.getUserId() : null;
+    }
 }
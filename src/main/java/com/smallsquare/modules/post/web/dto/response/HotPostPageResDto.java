@@ -0,0 +1,24 @@
+package com.smallsquare.modules.post.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 인기글 한 페이지 (점수 높은 순)
+ * 순위가 계속 바뀌므로 페이지 사이에 같은 게시글이 겹치거나 빠질 수 있음
+ */
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotPostPageResDto {
+
+    private List<PostSummaryResDto> posts;
+
+    private int page;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,39 @@
+package com.smallsquare.modules.post.web.dto.response;
+
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDetailResDto {
+
+    private Long postId;
+
+    private String title;
+
+    private String content;
+
+    private List<String> imageUrls;
+
+    private String nickname;
+
+    private Long commentCount;
+
+    private Long likeCount;
+
+    private Long dislikeCount;
+
+    private Long viewCount;
+
+    private LocalDateTime createdAt;
+
+    // 로그인한 사용자의 반응 (반응하지 않았거나 로그인하지 않았으면 null)
+    private ReactionType myReaction;
+}
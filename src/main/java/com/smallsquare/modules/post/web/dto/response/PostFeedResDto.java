@@ -0,0 +1,27 @@
+package com.smallsquare.modules.post.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 피드 한 페이지
+ * 다음 페이지는 nextCursorCreatedAt, nextCursorId를 그대로 다시 전달해서 조회 (hasNext가 false면 null)
+ */
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostFeedResDto {
+
+    private List<PostSummaryResDto> posts;
+
+    private boolean hasNext;
+
+    private LocalDateTime nextCursorCreatedAt;
+
+    private Long nextCursorId;
+}
@@ -0,0 +1,24 @@
+package com.smallsquare.modules.post.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지 (최신순)
+ * 다음 페이지는 nextCursorId를 그대로 다시 전달해서 조회 (hasNext가 false면 null)
+ */
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSearchPageResDto {
+
+    private List<PostSearchResDto> posts;
+
+    private boolean hasNext;
+
+    private Long nextCursorId;
+}
@@ -0,0 +1,35 @@
+package com.smallsquare.modules.post.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과 한 건
+ * title, snippet은 HTML escape 후 검색어 부분을 <em>으로 감싼 값
+ */
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSearchResDto {
+
+    private Long postId;
+
+    private String title;
+
+    // 본문 중 검색어 주변 요약
+    private String snippet;
+
+    private String nickname;
+
+    private Long commentCount;
+
+    private Long likeCount;
+
+    private Long viewCount;
+
+    private LocalDateTime createdAt;
+}
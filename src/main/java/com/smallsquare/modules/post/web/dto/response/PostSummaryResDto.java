@@ -0,0 +1,59 @@
+package com.smallsquare.modules.post.web.dto.response;
+
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 목록의 게시글 한 건 (본문, 이미지 제외)
+ */
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryResDto {
+
+    // QueryDSL 프로젝션용 (내 반응은 별도로 조회해서 채움)
+    public PostSummaryResDto(Long postId, String title, String nickname, Long commentCount,
+                             Long likeCount, Long dislikeCount, Long viewCount, LocalDateTime createdAt) {
+        this.postId = postId;
+        this.title = title;
+        this.nickname = nickname;
+        this.commentCount = commentCount;
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+    }
+
+    private Long postId;
+
+    private String title;
+
+    private String nickname;
+
+    private Long commentCount;
+
+    private Long likeCount;
+
+    private Long dislikeCount;
+
+    private Long viewCount;
+
+    private LocalDateTime createdAt;
+
+    // 로그인한 사용자의 반응 (반응하지 않았거나 로그인하지 않았으면 null)
+    private ReactionType myReaction;
+
+    // 아직 DB에 반영되지 않은 조회수 증가분 합산
+    public void addViewCount(long pendingViews) {
+        this.viewCount = (viewCount == null ? 0 : viewCount) + pendingViews;
+    }
+
+    public void applyMyReaction(ReactionType myReaction) {
+        this.myReaction = myReaction;
+    }
+}
@@ -1,4 +1,156 @@
 package com.smallsquare.modules.reaction.application.service;
 
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.comment.domain.repository.CommentRepository;
+import com.smallsquare.modules.post.application.service.PostActivityService;
+import com.smallsquare.modules.post.domain.repository.PostRepository;
+import com.smallsquare.modules.reaction.domain.entity.Reaction;
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import com.smallsquare.modules.reaction.domain.repository.ReactionCountRepository;
+import com.smallsquare.modules.reaction.domain.repository.ReactionQueryRepository;
+import com.smallsquare.modules.reaction.domain.repository.ReactionRepository;
+import com.smallsquare.modules.reaction.domain.vo.ReactionCount;
+import com.smallsquare.modules.reaction.domain.vo.ReactionTarget;
+import com.smallsquare.modules.reaction.exception.exception.ReactionException;
+import com.smallsquare.modules.reaction.infrastructure.counter.ReactionCounter;
+import com.smallsquare.modules.reaction.web.dto.request.ReactionReqDto;
+import com.smallsquare.modules.reaction.web.dto.response.ReactionResDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.smallsquare.modules.reaction.exception.errorCode.ReactionErrorCode.*;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ReactionService {
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionCountRepository reactionCountRepository;
+    private final ReactionQueryRepository reactionQueryRepository;
+    private final ReactionCounter reactionCounter;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostActivityService postActivityService;
+
+    /**
+     * 좋아요/싫어요 (같은 요청을 여러 번 보내도 결과가 같음)
+     * 1. 반응이 없으면 추가 -> 해당 개수 +1
+     * 2. 다른 반응이 있으면 변경 -> 기존 개수 -1, 새 개수 +1
+     * 3. 같은 반응이 있으면 변경 없음
+     * @param userId
+     * @param reqDto : targetType, targetId, reactionType
+     * @return ReactionResDto (내 반응, 변경 후 개수)
+     */
+    @Transactional
+    public ReactionResDto react(Long userId, ReactionReqDto reqDto) {
+
+        // 1. 입력값 검증 및 대상 존재 여부 확인
+        validateTarget(reqDto.getTargetType(), reqDto.getTargetId());
+        if (reqDto.getReactionType() == null) {
+            throw new ReactionException(REACTION_TYPE_NOT_NULL);
+        }
+        TargetType targetType = reqDto.getTargetType();
+        Long targetId = reqDto.getTargetId();
+        ReactionType reactionType = reqDto.getReactionType();
+
+        // 2. 반응이 없으면 추가
+        if (reactionRepository.insertIfAbsent(userId, targetType, targetId, reactionType)) {
+            addCount(targetType, targetId, reactionType, 1);
+            return toResDto(targetType, targetId, reactionType);
+        }
+
+        // 3. 이미 있으면(2에서 배타 락을 잡은 상태) 다른 반응일 때만 변경
+        Reaction reaction = reactionRepository.findForUpdate(userId, targetType, targetId)
+                .orElseThrow(() -> new IllegalStateException("reaction not found after insert conflict"));
+        if (reaction.getReactionType() != reactionType) {
+            addCount(targetType, targetId, reaction.getReactionType(), -1);
+            addCount(targetType, targetId, reactionType, 1);
+            reaction.changeType(reactionType);
+        }
+
+        return toResDto(targetType, targetId, reactionType);
+    }
+
+    /**
+     * 반응 취소 (반응이 없어도 성공)
+     * @param userId
+     * @param targetType
+     * @param targetId
+     * @return ReactionResDto (reactionType = null, 변경 후 개수)
+     */
+    @Transactional
+    public ReactionResDto cancel(Long userId, TargetType targetType, Long targetId) {
+
+        // 1. 입력값 검증 및 대상 존재 여부 확인
+        validateTarget(targetType, targetId);
+
+        // 2. 반응이 있으면 삭제 후 개수 -1
+        Optional<Reaction> reaction = reactionRepository.findForUpdate(userId, targetType, targetId);
+        reaction.ifPresent(found -> {
+            addCount(targetType, targetId, found.getReactionType(), -1);
+            reactionRepository.delete(found);
+        });
+
+        return toResDto(targetType, targetId, null);
+    }
+
+
+    /**
+     * 목록(피드, 댓글)에 표시할 내 반응을 한 번에 조회
+     * @param userId : 로그인하지 않았으면 null
+     * @param targets
+     * @return 대상 -> 내 반응 (반응하지 않았으면 포함하지 않음)
+     */
+    public Map<ReactionTarget, ReactionType> findMyReactions(Long userId, Collection<ReactionTarget> targets) {
+        return reactionQueryRepository.findReactionTypes(userId, targets);
+    }
+
+
+
+    // ==================== 검증 & 편의 메소드 ==================== //
+
+    private void validateTarget(TargetType targetType, Long targetId) {
+        if (targetType == null) {
+            throw new ReactionException(TARGET_TYPE_NOT_NULL);
+        }
+        if (targetId == null) {
+            throw new ReactionException(TARGET_ID_NOT_NULL);
+        }
+
+        boolean exists = switch (targetType) {
+            case POST -> postRepository.existsActiveById(targetId);
+            case COMMENT -> commentRepository.existsActiveById(targetId);
+        };
+        if (!exists) {
+            throw new ReactionException(TARGET_NOT_FOUND);
+        }
+    }
+
+    private void addCount(TargetType targetType, Long targetId, ReactionType reactionType, long delta) {
+        if (reactionType == ReactionType.LIKE) {
+            reactionCounter.add(targetType, targetId, delta, 0);
+            if (targetType == TargetType.POST) {
+                postActivityService.likesChanged(targetId, delta);
+            }
+        } else {
+            reactionCounter.add(targetType, targetId, 0, delta);
+        }
+    }
+
+    private ReactionResDto toResDto(TargetType targetType, Long targetId, ReactionType reactionType) {
+        ReactionCount count = reactionCountRepository.sumByTarget(targetType, targetId);
+        return ReactionResDto.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .reactionType(reactionType)
+                .likeCount(count.getLikeCount())
+                .dislikeCount(count.getDislikeCount())
+                .build();
+    }
 }
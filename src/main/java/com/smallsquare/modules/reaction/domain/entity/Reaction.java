@@ -11,6 +11,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity @Getter @Builder
+@Table(uniqueConstraints = {
+        // 사용자는 대상마다 반응 하나만 가능
+        @UniqueConstraint(name = "uk_reaction_user_target", columnNames = {"user_id", "target_type", "target_id"})
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class Reaction extends BaseTimeEntity {
@@ -31,4 +35,8 @@ public class Reaction extends BaseTimeEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    public void changeType(ReactionType reactionType) {
+        this.reactionType = reactionType;
+    }
+
 }
@@ -0,0 +1,32 @@
+package com.smallsquare.modules.reaction.domain.entity;
+
+import com.smallsquare.modules.reaction.domain.vo.ReactionCountShardId;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대상(게시글/댓글)별 좋아요/싫어요 수를 여러 행(shard)으로 나눠서 저장
+ * 반응이 생길 때마다 임의의 shard 한 행만 증가시키므로, 인기 게시글에 반응이 몰려도 한 행의 락을 기다리지 않음
+ * 실제 개수는 같은 대상의 shard 합계 (post/comment의 like_count, dislike_count에는 주기적으로 반영)
+ * 쓰기는 INSERT ... ON DUPLICATE KEY UPDATE로만 처리 (ReactionCountRepository)
+ */
+@Entity
+@Getter
+@Table(name = "reaction_count_shard")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReactionCountShard {
+
+    @EmbeddedId
+    private ReactionCountShardId id;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "dislike_count", nullable = false)
+    private long dislikeCount;
+}
@@ -0,0 +1,35 @@
+package com.smallsquare.modules.reaction.domain.repository;
+
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.reaction.domain.vo.ReactionCount;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface ReactionCountRepository {
+
+    /**
+     * shard 한 행에 증가분 반영 (행이 없으면 생성)
+     */
+    void addToShard(TargetType targetType, Long targetId, int shard, long likeDelta, long dislikeDelta);
+
+    /**
+     * 대상의 모든 shard 합계
+     */
+    ReactionCount sumByTarget(TargetType targetType, Long targetId);
+
+    /**
+     * shard 합계를 post/comment의 like_count, dislike_count에 반영
+     */
+    void rollup(TargetType targetType, Collection<Long> targetIds);
+
+    /**
+     * id 범위 안의 post/comment like_count, dislike_count를 shard 합계로 다시 맞춤 (값이 다른 행만 수정)
+     * @return 수정된 행 수
+     */
+    int reconcile(TargetType targetType, long fromId, long toId);
+
+    // 보정 범위를 정하기 위한 post/comment 최대 id (없으면 0)
+    long findMaxTargetId(TargetType targetType);
+}
@@ -0,0 +1,20 @@
+package com.smallsquare.modules.reaction.domain.repository;
+
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import com.smallsquare.modules.reaction.domain.vo.ReactionTarget;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+@Repository
+public interface ReactionQueryRepository {
+
+    /**
+     * 여러 대상에 대한 사용자의 반응을 한 번의 쿼리로 조회
+     * @param userId
+     * @param targets
+     * @return 대상 -> 반응 (반응하지 않은 대상은 포함하지 않음)
+     */
+    Map<ReactionTarget, ReactionType> findReactionTypes(Long userId, Collection<ReactionTarget> targets);
+}
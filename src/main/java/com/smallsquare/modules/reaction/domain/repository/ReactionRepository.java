@@ -0,0 +1,26 @@
+package com.smallsquare.modules.reaction.domain.repository;
+
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.reaction.domain.entity.Reaction;
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReactionRepository {
+
+    /**
+     * 반응이 없으면 저장 (이미 있으면 반응은 바꾸지 않음)
+     * 저장했든 이미 있었든 해당 행의 배타 락을 잡은 상태로 반환 (같은 사용자의 동시 요청은 커밋될 때까지 대기)
+     * @return 새로 저장했으면 true
+     */
+    boolean insertIfAbsent(Long userId, TargetType targetType, Long targetId, ReactionType reactionType);
+
+    /**
+     * 사용자의 대상 반응 조회 (SELECT ... FOR UPDATE)
+     */
+    Optional<Reaction> findForUpdate(Long userId, TargetType targetType, Long targetId);
+
+    void delete(Reaction reaction);
+}
@@ -0,0 +1,16 @@
+package com.smallsquare.modules.reaction.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대상 하나의 좋아요/싫어요 수 (shard 합계)
+ */
+@Getter
+@AllArgsConstructor
+public class ReactionCount {
+
+    private final long likeCount;
+
+    private final long dislikeCount;
+}
@@ -0,0 +1,45 @@
+package com.smallsquare.modules.reaction.domain.vo;
+
+import com.smallsquare.common.enums.TargetType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReactionCountShardId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "shard", nullable = false)
+    private Integer shard;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ReactionCountShardId that = (ReactionCountShardId) o;
+        return targetType == that.targetType
+                && Objects.equals(targetId, that.targetId)
+                && Objects.equals(shard, that.shard);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targetType, targetId, shard);
+    }
+}
@@ -0,0 +1,31 @@
+package com.smallsquare.modules.reaction.domain.vo;
+
+import com.smallsquare.common.enums.TargetType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * 반응 대상 (게시글 / 댓글 + id)
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ReactionTarget {
+
+    private final TargetType targetType;
+
+    private final Long targetId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ReactionTarget that = (ReactionTarget) o;
+        return targetType == that.targetType && Objects.equals(targetId, that.targetId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targetType, targetId);
+    }
+}
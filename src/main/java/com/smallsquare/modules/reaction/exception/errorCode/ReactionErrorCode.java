@@ -0,0 +1,19 @@
+package com.smallsquare.modules.reaction.exception.errorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@AllArgsConstructor
+@Getter
+public enum ReactionErrorCode {
+
+    // 에러 메시지와 상태 코드를 관리
+    TARGET_TYPE_NOT_NULL("반응 대상 종류는 필수 값입니다.", HttpStatus.BAD_REQUEST),
+    TARGET_ID_NOT_NULL("반응 대상 id는 필수 값입니다.", HttpStatus.BAD_REQUEST),
+    REACTION_TYPE_NOT_NULL("반응 종류는 필수 값입니다.", HttpStatus.BAD_REQUEST),
+    TARGET_NOT_FOUND("반응 대상을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+
+    private final String message;
+    private final HttpStatus status;
+}
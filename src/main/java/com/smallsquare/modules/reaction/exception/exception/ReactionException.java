@@ -0,0 +1,15 @@
+package com.smallsquare.modules.reaction.exception.exception;
+
+import com.smallsquare.modules.reaction.exception.errorCode.ReactionErrorCode;
+import lombok.Getter;
+
+@Getter
+public class ReactionException extends RuntimeException {
+
+    private final ReactionErrorCode errorCode;
+
+    public ReactionException(ReactionErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+}
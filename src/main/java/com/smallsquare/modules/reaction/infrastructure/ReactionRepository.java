@@ -1,4 +0,0 @@
-package com.smallsquare.modules.reaction.infrastructure;
-
-public class ReactionRepository {
-}
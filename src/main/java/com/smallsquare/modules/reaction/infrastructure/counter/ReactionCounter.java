@@ -0,0 +1,109 @@
+package com.smallsquare.modules.reaction.infrastructure.counter;
+
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.reaction.domain.repository.ReactionCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 좋아요/싫어요 수 관리
+ * 1. 반응이 바뀌면 같은 트랜잭션에서 임의의 shard 한 행에 증가분 반영
+ * 2. 커밋 후 대상을 Redis Set(reaction:dirty)에 기록
+ * 3. 주기적으로 기록된 대상의 shard 합계를 post/comment의 like_count, dislike_count에 반영
+ * post/comment 행은 반응마다가 아니라 주기마다 한 번만 수정됨
+ * 기록/rollup이 빠진 대상은 ReactionCountReconciler가 주기적으로 shard 합계로 보정
+ */
+@Slf4j
+@Component
+public class ReactionCounter {
+
+    private static final String DIRTY_KEY = "reaction:dirty";
+    private static final int ROLLUP_BATCH_SIZE = 500;
+
+    private final ReactionCountRepository reactionCountRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final int shardCount;
+
+    public ReactionCounter(ReactionCountRepository reactionCountRepository,
+                           StringRedisTemplate redisTemplate,
+                           @Value("${REACTION_COUNTER_SHARDS:16}") int shardCount) {
+        this.reactionCountRepository = reactionCountRepository;
+        this.redisTemplate = redisTemplate;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * 좋아요/싫어요 증가분 반영 (트랜잭션 안에서 호출)
+     */
+    public void add(TargetType targetType, Long targetId, long likeDelta, long dislikeDelta) {
+        if (likeDelta == 0 && dislikeDelta == 0) {
+            return;
+        }
+
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        reactionCountRepository.addToShard(targetType, targetId, shard, likeDelta, dislikeDelta);
+
+        String member = targetType.name() + ":" + targetId;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markDirty(member);
+                }
+            });
+        } else {
+            markDirty(member);
+        }
+    }
+
+    /**
+     * 변경된 대상의 개수를 post/comment에 반영
+     * SPOP으로 가져가므로 여러 서버가 동시에 실행해도 같은 대상을 나눠서 처리
+     */
+    @Scheduled(initialDelayString = "${REACTION_ROLLUP_INTERVAL_MS:5000}",
+            fixedDelayString = "${REACTION_ROLLUP_INTERVAL_MS:5000}")
+    public void rollup() {
+        List<String> members;
+        while (!(members = popDirty()).isEmpty()) {
+            try {
+                Map<TargetType, List<Long>> targetIds = new EnumMap<>(TargetType.class);
+                for (String member : members) {
+                    String[] parts = member.split(":", 2);
+                    targetIds.computeIfAbsent(TargetType.valueOf(parts[0]), type -> new ArrayList<>())
+                            .add(Long.parseLong(parts[1]));
+                }
+                targetIds.forEach(reactionCountRepository::rollup);
+            } catch (Exception e) {
+                // 다음 주기에 다시 반영되도록 되돌려 놓음
+                redisTemplate.opsForSet().add(DIRTY_KEY, members.toArray(String[]::new));
+                log.warn("좋아요/싫어요 수 반영 실패", e);
+                return;
+            }
+        }
+    }
+
+    private List<String> popDirty() {
+        List<String> members = redisTemplate.opsForSet().pop(DIRTY_KEY, ROLLUP_BATCH_SIZE);
+        return members != null ? members : List.of();
+    }
+
+    private void markDirty(String member) {
+        try {
+            redisTemplate.opsForSet().add(DIRTY_KEY, member);
+        } catch (Exception e) {
+            // shard에는 반영되었으므로 다음 반응 때 다시 기록되거나 ReactionCountReconciler가 보정
+            log.warn("좋아요/싫어요 변경 대상 기록 실패 target={}", member, e);
+        }
+    }
+}
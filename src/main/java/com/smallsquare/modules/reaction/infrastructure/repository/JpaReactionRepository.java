@@ -0,0 +1,17 @@
+package com.smallsquare.modules.reaction.infrastructure.repository;
+
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.reaction.domain.entity.Reaction;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JpaReactionRepository extends JpaRepository<Reaction, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Reaction> findByUserIdAndTargetTypeAndTargetId(Long userId, TargetType targetType, Long targetId);
+}
@@ -0,0 +1,104 @@
+package com.smallsquare.modules.reaction.infrastructure.repository;
+
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.reaction.domain.repository.ReactionCountRepository;
+import com.smallsquare.modules.reaction.domain.vo.ReactionCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactionCountRepositoryImpl implements ReactionCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public void addToShard(TargetType targetType, Long targetId, int shard, long likeDelta, long dislikeDelta) {
+        jdbcTemplate.update(
+                "INSERT INTO reaction_count_shard (target_type, target_id, shard, like_count, dislike_count) " +
+                "VALUES (?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE like_count = like_count + VALUES(like_count), " +
+                "dislike_count = dislike_count + VALUES(dislike_count)",
+                targetType.name(), targetId, shard, likeDelta, dislikeDelta
+        );
+    }
+
+    @Override
+    public ReactionCount sumByTarget(TargetType targetType, Long targetId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(like_count), 0), COALESCE(SUM(dislike_count), 0) " +
+                "FROM reaction_count_shard WHERE target_type = ? AND target_id = ?",
+                (rs, rowNum) -> new ReactionCount(rs.getLong(1), rs.getLong(2)),
+                targetType.name(), targetId
+        );
+    }
+
+    /**
+     * 대상마다 shard 합계를 구해서 한 번의 UPDATE ... JOIN으로 반영 (절대값으로 덮어쓰므로 여러 번 실행해도 결과가 같음)
+     */
+    @Override
+    public void rollup(TargetType targetType, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return;
+        }
+
+        String table = tableOf(targetType);
+        String idColumn = table + "_id";
+
+        namedParameterJdbcTemplate.update(
+                "UPDATE " + table + " t JOIN (" +
+                "    SELECT target_id, SUM(like_count) AS like_sum, SUM(dislike_count) AS dislike_sum " +
+                "    FROM reaction_count_shard " +
+                "    WHERE target_type = :targetType AND target_id IN (:targetIds) " +
+                "    GROUP BY target_id" +
+                ") c ON t." + idColumn + " = c.target_id " +
+                "SET t.like_count = c.like_sum, t.dislike_count = c.dislike_sum",
+                new MapSqlParameterSource()
+                        .addValue("targetType", targetType.name())
+                        .addValue("targetIds", targetIds)
+        );
+    }
+
+    /**
+     * shard 행이 없는 대상은 0으로 맞춤 (LEFT JOIN), 이미 같은 행은 수정하지 않으므로 어긋난 행만 락이 잡힘
+     */
+    @Override
+    public int reconcile(TargetType targetType, long fromId, long toId) {
+        String table = tableOf(targetType);
+        String idColumn = table + "_id";
+
+        return jdbcTemplate.update(
+                "UPDATE " + table + " t LEFT JOIN (" +
+                "    SELECT target_id, SUM(like_count) AS like_sum, SUM(dislike_count) AS dislike_sum " +
+                "    FROM reaction_count_shard " +
+                "    WHERE target_type = ? AND target_id BETWEEN ? AND ? " +
+                "    GROUP BY target_id" +
+                ") c ON t." + idColumn + " = c.target_id " +
+                "SET t.like_count = COALESCE(c.like_sum, 0), t.dislike_count = COALESCE(c.dislike_sum, 0) " +
+                "WHERE t." + idColumn + " BETWEEN ? AND ? " +
+                "AND NOT (t.like_count <=> COALESCE(c.like_sum, 0) AND t.dislike_count <=> COALESCE(c.dislike_sum, 0))",
+                targetType.name(), fromId, toId, fromId, toId
+        );
+    }
+
+    @Override
+    public long findMaxTargetId(TargetType targetType) {
+        String table = tableOf(targetType);
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + table + "_id), 0) FROM " + table, Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    private static String tableOf(TargetType targetType) {
+        return switch (targetType) {
+            case POST -> "post";
+            case COMMENT -> "comment";
+        };
+    }
+}
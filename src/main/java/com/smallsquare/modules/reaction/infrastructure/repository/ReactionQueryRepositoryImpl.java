@@ -0,0 +1,64 @@
+package com.smallsquare.modules.reaction.infrastructure.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.reaction.domain.entity.QReaction;
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import com.smallsquare.modules.reaction.domain.repository.ReactionQueryRepository;
+import com.smallsquare.modules.reaction.domain.vo.ReactionTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactionQueryRepositoryImpl implements ReactionQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * user_id = ? AND ((target_type = 'POST' AND target_id IN (...)) OR (target_type = 'COMMENT' AND target_id IN (...)))
+     * 유니크 키(user_id, target_type, target_id)로 조회하므로 페이지 크기와 상관없이 쿼리 1번
+     */
+    @Override
+    public Map<ReactionTarget, ReactionType> findReactionTypes(Long userId, Collection<ReactionTarget> targets) {
+        if (userId == null || targets.isEmpty()) {
+            return Map.of();
+        }
+        QReaction reaction = QReaction.reaction;
+
+        // 1. 대상 종류별로 id 묶기
+        Map<TargetType, List<Long>> targetIds = new EnumMap<>(TargetType.class);
+        for (ReactionTarget target : targets) {
+            targetIds.computeIfAbsent(target.getTargetType(), type -> new ArrayList<>()).add(target.getTargetId());
+        }
+
+        BooleanBuilder targetCondition = new BooleanBuilder();
+        targetIds.forEach((targetType, ids) ->
+                targetCondition.or(reaction.targetType.eq(targetType).and(reaction.targetId.in(ids))));
+
+        // 2. 한 번의 쿼리로 조회
+        List<Tuple> rows = jpaQueryFactory
+                .select(reaction.targetType, reaction.targetId, reaction.reactionType)
+                .from(reaction)
+                .where(reaction.user.id.eq(userId), targetCondition)
+                .fetch();
+
+        Map<ReactionTarget, ReactionType> reactionTypes = new HashMap<>();
+        for (Tuple row : rows) {
+            reactionTypes.put(
+                    ReactionTarget.of(row.get(reaction.targetType), row.get(reaction.targetId)),
+                    row.get(reaction.reactionType)
+            );
+        }
+        return reactionTypes;
+    }
+}
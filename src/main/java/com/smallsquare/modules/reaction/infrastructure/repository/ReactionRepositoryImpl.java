@@ -0,0 +1,48 @@
+package com.smallsquare.modules.reaction.infrastructure.repository;
+
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.reaction.domain.entity.Reaction;
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import com.smallsquare.modules.reaction.domain.repository.ReactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactionRepositoryImpl implements ReactionRepository {
+
+    private final JpaReactionRepository jpaReactionRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 유니크 키(uk_reaction_user_target)에 걸리면 기존 행의 updated_at만 갱신
+     * 1. INSERT IGNORE는 기존 행에 공유(S) 락을 잡으므로, 같은 사용자의 동시 요청이 둘 다 S를 잡은 채 FOR UPDATE(X)를 기다리며 데드락
+     *    -> ON DUPLICATE KEY UPDATE로 처음부터 배타(X) 락을 잡고, 이후 findForUpdate는 이미 잡은 락을 다시 확인만 함
+     * 2. 영향받은 행 수 : 새로 저장 1, 기존 행 갱신 2
+     *    값이 그대로면 드라이버 설정(found rows)에 따라 1이 되어 저장과 구분되지 않으므로 updated_at을 항상 이전보다 큰 값으로 바꿈
+     * 3. INSERT IGNORE와 달리 FK 위반, 값 잘림 등은 무시되지 않고 예외로 전달됨
+     */
+    @Override
+    public boolean insertIfAbsent(Long userId, TargetType targetType, Long targetId, ReactionType reactionType) {
+        int affected = jdbcTemplate.update(
+                "INSERT INTO reaction (user_id, target_type, target_id, reaction_type, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, NOW(6), NOW(6)) " +
+                "ON DUPLICATE KEY UPDATE updated_at = GREATEST(NOW(6), updated_at + INTERVAL 1 MICROSECOND)",
+                userId, targetType.name(), targetId, reactionType.name()
+        );
+        return affected == 1;
+    }
+
+    @Override
+    public Optional<Reaction> findForUpdate(Long userId, TargetType targetType, Long targetId) {
+        return jpaReactionRepository.findByUserIdAndTargetTypeAndTargetId(userId, targetType, targetId);
+    }
+
+    @Override
+    public void delete(Reaction reaction) {
+        jpaReactionRepository.delete(reaction);
+    }
+}
@@ -1,4 +1,45 @@
 package com.smallsquare.modules.reaction.web.controller;
 
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.reaction.application.service.ReactionService;
+import com.smallsquare.modules.reaction.web.dto.request.ReactionReqDto;
+import com.smallsquare.modules.reaction.web.dto.response.ReactionResDto;
+import com.smallsquare.modules.user.infrastructure.auth.model.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/reactions")
 public class ReactionController {
+
+    private final ReactionService reactionService;
+
+    /**
+     * 좋아요/싫어요 (같은 반응을 다시 보내도 결과가 같음, 다른 반응을 보내면 변경)
+     * @param reqDto : targetType, targetId, reactionType
+     * @return 200 Success / ReactionResDto
+     */
+    @PutMapping("/")
+    public ResponseEntity<ReactionResDto> react(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                @RequestBody ReactionReqDto reqDto) {
+        ReactionResDto resDto = reactionService.react(userDetails.getUserId(), reqDto);
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
+
+    /**
+     * 좋아요/싫어요 취소 (반응이 없어도 성공)
+     * @param targetType, targetId
+     * @return 200 Success / ReactionResDto
+     */
+    @DeleteMapping("/")
+    public ResponseEntity<ReactionResDto> cancel(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                 @RequestParam TargetType targetType,
+                                                 @RequestParam Long targetId) {
+        ReactionResDto resDto = reactionService.cancel(userDetails.getUserId(), targetType, targetId);
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
 }
@@ -0,0 +1,20 @@
+package com.smallsquare.modules.reaction.web.dto.request;
+
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactionReqDto {
+
+    private TargetType targetType;
+
+    private Long targetId;
+
+    private ReactionType reactionType;
+}
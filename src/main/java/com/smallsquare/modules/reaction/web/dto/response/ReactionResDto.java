@@ -0,0 +1,28 @@
+package com.smallsquare.modules.reaction.web.dto.response;
+
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 반응 변경 결과
+ * reactionType: 내 반응 (취소했으면 null), likeCount / dislikeCount: 변경 후 개수
+ */
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactionResDto {
+
+    private TargetType targetType;
+
+    private Long targetId;
+
+    private ReactionType reactionType;
+
+    private Long likeCount;
+
+    private Long dislikeCount;
+}
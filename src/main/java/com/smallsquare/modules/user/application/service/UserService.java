@@ -1,25 +1,43 @@
 package com.smallsquare.modules.user.application.service;
 
+import com.smallsquare.infrastructure.cache.CacheNames;
 import com.smallsquare.modules.user.domain.entity.User;
 import com.smallsquare.modules.user.domain.enums.IsActive;
 import com.smallsquare.modules.user.domain.enums.Role;
+import com.smallsquare.modules.user.domain.enums.UniqueField;
 import com.smallsquare.modules.user.domain.repository.UserQueryRepository;
 import com.smallsquare.modules.user.domain.repository.UserRepository;
 import com.smallsquare.modules.user.domain.vo.*;
 import com.smallsquare.modules.user.exception.exception.UserException;
 import com.smallsquare.modules.user.infrastructure.jwt.JwtProvider;
 import com.smallsquare.modules.user.infrastructure.jwt.JwtUtil;
+import com.smallsquare.modules.user.infrastructure.jwt.VerifiedToken;
+import com.smallsquare.modules.user.infrastructure.mail.MailService;
 import com.smallsquare.modules.user.infrastructure.redis.RedisService;
+import com.smallsquare.modules.user.infrastructure.redis.SessionRevocation;
+import com.smallsquare.modules.user.infrastructure.redis.TokenStore;
+import com.smallsquare.modules.user.infrastructure.redis.UserAvailabilityCache;
 import com.smallsquare.modules.user.web.dto.request.*;
+import com.smallsquare.modules.user.web.dto.response.UserAvailabilityResDto;
 import com.smallsquare.modules.user.web.dto.response.UserInfoResDto;
 import com.smallsquare.modules.user.web.dto.response.UserLoginResDto;
 import com.smallsquare.modules.user.web.dto.response.UserUpdateResDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static com.smallsquare.modules.user.exception.errorCode.UserErrorCode.*;
 
@@ -32,8 +50,11 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final RedisService redisService;
+    private final TokenStore tokenStore;
     private final JwtUtil jwtUtil;
     private final UserQueryRepository userQueryRepository;
+    private final UserAvailabilityCache userAvailabilityCache;
+    private final CacheManager cacheManager;
 
     /**
      * 회원가입
@@ -50,33 +71,64 @@ public class UserService {
         // TODO: PostMan 테스트 시 너무 불편해서 주석처리 한 다음 실제 서비스할 때는 주석 제거
         // verifyEmail(reqDto.getEmail());
 
-        // 3. 비밀번호 객체를 만들어 인코딩 후 대입
-        Password password = new Password(reqDto.getPassword(), passwordEncoder);
-
-        // 4. 이메일 객체를 만들어 중복검사
+        // 3. 이메일, username, nickname 객체 생성 후 한 번의 쿼리로 중복검사
         Email email = new Email(reqDto.getEmail());
-        if (userRepository.existsByEmail(email)) {
-            throw new UserException(DUPLICATED_EMAIL);
-        }
-
-        // 5. username 객체 만들어 중복 검사
         Username username = new Username(reqDto.getUsername());
-        if (userRepository.existsByUsername(username)) {
-            throw new UserException(DUPLICATED_USERNAME);
-        }
-
-        // 6. nickname 객체를 만들어 중복검사
         Nickname nickname = new Nickname(reqDto.getNickname());
-        if (userRepository.existsByNickname(nickname)) {
-            throw new UserException(DUPLICATED_NICKNAME);
-        }
+        validateNotDuplicated(username, email, nickname, null);
+
+        // 4. 비밀번호 객체를 만들어 인코딩 후 대입 (중복이면 해시 연산을 하지 않도록 중복검사 이후에 실행)
+        Password password = new Password(reqDto.getPassword(), passwordEncoder);
 
-        // 7. name 객체 생성
+        // 5. name 객체 생성
         Name name = new Name(reqDto.getName());
 
-        // 8. DTO의 필드 User 객체로 변환 후 저장
+        // 6. DTO의 필드 User 객체로 변환 후 저장 (동시 가입으로 유니크 제약조건에 걸리면 중복 에러로 변환)
         User user = User.of(username, password, email, nickname, name);
         userRepository.save(user);
+
+        // 7. 커밋 후 중복 확인 캐시에 사용 중인 값으로 추가
+        userAvailabilityCache.replaceAfterCommit(Map.of(), uniqueValuesOf(username, email, nickname));
+    }
+
+    /**
+     * 아이디 / 닉네임 / 이메일 사용 가능 여부 확인 (회원가입 폼 실시간 확인용)
+     * Redis 캐시로 확인하고, 캐시가 준비되지 않은 경우에만 DB로 확인
+     * 입력할 때마다 호출되므로 트랜잭션을 열지 않음 (DB 커넥션은 DB로 확인할 때만 조회 쿼리 동안 사용)
+     * @param username, nickname, email (확인할 값만 전달)
+     * @return UserAvailabilityResDto (요청하지 않은 항목은 null)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserAvailabilityResDto checkAvailability(String username, String nickname, String email) {
+
+        // 1. 전달된 값만 형식 검증 후 객체 생성
+        Username checkUsername = (username != null) ? new Username(username) : null;
+        Nickname checkNickname = (nickname != null) ? new Nickname(nickname) : null;
+        Email checkEmail = (email != null) ? new Email(email) : null;
+
+        Map<UniqueField, String> values = new EnumMap<>(UniqueField.class);
+        if (checkUsername != null) {
+            values.put(UniqueField.USERNAME, username);
+        }
+        if (checkNickname != null) {
+            values.put(UniqueField.NICKNAME, nickname);
+        }
+        if (checkEmail != null) {
+            values.put(UniqueField.EMAIL, email);
+        }
+
+        // 2. Redis Set으로 확인 (캐시가 준비되지 않았으면 DB로 확인)
+        EnumSet<UniqueField> taken = values.isEmpty() ? EnumSet.noneOf(UniqueField.class) : userAvailabilityCache.findTaken(values);
+        if (taken == null) {
+            taken = userQueryRepository.findDuplicatedFields(checkUsername, checkEmail, checkNickname, null);
+        }
+
+        // 3. 반환
+        return UserAvailabilityResDto.builder()
+                .usernameAvailable(checkUsername != null ? !taken.contains(UniqueField.USERNAME) : null)
+                .nicknameAvailable(checkNickname != null ? !taken.contains(UniqueField.NICKNAME) : null)
+                .emailAvailable(checkEmail != null ? !taken.contains(UniqueField.EMAIL) : null)
+                .build();
     }
 
     /**
@@ -104,7 +156,12 @@ public class UserService {
             throw new UserException(PASSWORD_NOT_MATCHED);
         }
 
-        // 5. 토큰 생성
+        // 5. 해시 형식이나 cost가 현재 설정과 다르면 재해시 (더티 체킹으로 저장)
+        if (passwordEncoder.upgradeEncoding(user.getPassword().getPassword())) {
+            user.rehashPassword(reqDto.getPassword(), passwordEncoder);
+        }
+
+        // 6. 토큰 생성
         JwtTokenReqDto tokenReqDto = jwtUtil.createTokenDto(user);
 
         String accessToken = jwtProvider.createAccessToken(tokenReqDto);
@@ -119,29 +176,37 @@ public class UserService {
      * 로그아웃
      * @note 로그아웃 때 input으로 온 토큰을 redis에 blackList로 저장
      * 이후 인증이나 토큰 재발급 때 검증 로직을 추가
+     * DB 작업이 없으므로 Redis 응답을 기다리지 않고 바로 반환 (요청 스레드는 그동안 다른 요청 처리)
      * @param reqDto
+     * @return Redis 저장이 끝나면 완료되는 future
      */
-    @Transactional
-    public void logout(UserLogoutReqDto reqDto) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> logout(UserLogoutReqDto reqDto) {
 
         // 1. 토큰 추출
         String accessToken = reqDto.getAccessToken();
         String refreshToken = reqDto.getRefreshToken();
 
-        // 2. Access Token과 Refresh Token의 남은 만료시간을 추출
-        long remainTimeAccessToken = jwtUtil.getRemainingExpirationMillis(accessToken);
-        long remainTimeRefreshToken = jwtUtil.getRemainingExpirationMillis(refreshToken);
-
-        // 3. RedisService에서 Redis에 블랙리스트로 저장
-        redisService.saveBlacklist(accessToken, remainTimeAccessToken, refreshToken, remainTimeRefreshToken);
+        // 2. Access Token과 Refresh Token 검증 (jti, 남은 만료시간 포함)
+        VerifiedToken verifiedAccessToken = jwtUtil.parseVerifiedToken(accessToken);
+        VerifiedToken verifiedRefreshToken = jwtUtil.parseVerifiedToken(refreshToken);
+
+        // 3. TokenStore로 Redis에 블랙리스트 저장 (non-blocking)
+        return tokenStore.revokeSessions(List.of(SessionRevocation.logout(verifiedAccessToken, verifiedRefreshToken)))
+                // 4. 저장이 끝나면 검증 캐시에서 제거
+                .thenRun(() -> {
+                    jwtUtil.evictVerifiedToken(accessToken);
+                    jwtUtil.evictVerifiedToken(refreshToken);
+                });
     }
 
     /**
      * 내 정보 조회
-     * QueryDSL을 통해 사용자 정보를 조회
+     * QueryDSL을 통해 사용자 정보를 조회 (로컬 + Redis 캐시, 같은 키 동시 요청은 한 번만 조회)
      * @param userId
      * @return UserInfoResDto (username, name, email, nickname)
      */
+    @Cacheable(cacheNames = CacheNames.USER_INFO, key = "#userId", sync = true)
     public UserInfoResDto me(Long userId) {
          return userQueryRepository.findUserInfoByUserId(userId)
                  .orElseThrow(() -> new UserException(USER_NOT_FOUND));
@@ -153,35 +218,40 @@ public class UserService {
      * @return UserUpdateResDto (username, name, email, nickname)
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_INFO, key = "#userId")
     public UserUpdateResDto updateUserInfo(Long userId, UserUpdateReqDto reqDto) {
 
         // 1. 해당 회원 조회
         User user = userRepository.findById(userId).orElseThrow(() -> new UserException(USER_NOT_FOUND)); // db에서 데이터를 가져와서 1차 캐시에 저장 (영속상태)
 
-        // 2. 이메일 객체를 만들어 중복검사
+        // 2. 이메일, username, nickname 객체 생성 후 본인을 제외하고 한 번의 쿼리로 중복검사
         Email email = new Email(reqDto.getEmail());
-        if (userRepository.existsByEmail(email) && !user.getEmail().equals(email)) {
-            throw new UserException(DUPLICATED_EMAIL);
-        }
-
-        // 3. username 객체 만들어 중복 검사
         Username username = new Username(reqDto.getUsername());
-        if (userRepository.existsByUsername(username) && !user.getUsername().equals(username)) {
-            throw new UserException(DUPLICATED_USERNAME);
-        }
-
-        // 4. nickname 객체를 만들어 중복검사
         Nickname nickname = new Nickname(reqDto.getNickname());
-        if (userRepository.existsByNickname(nickname) && !user.getNickname().equals(nickname)) {
-            throw new UserException(DUPLICATED_NICKNAME);
-        }
+        validateNotDuplicated(username, email, nickname, userId);
 
-        // 5. Name 객체 생성
+        // 3. Name 객체 생성
         Name name = new Name(reqDto.getName());
 
-        // 6. 영속 객체의 필드 값 변경 (더티 체킹 발생) -> Transactional 범위가 끝날 때 변경 감지 -> 감지되면 update 쿼리 실행
+        // 4. 영속 객체의 필드 값 변경 (더티 체킹 발생), 변경 전 값은 중복 확인 캐시 갱신용으로 보관
+        Map<UniqueField, String> before = uniqueValuesOf(user.getUsername(), user.getEmail(), user.getNickname());
         user.updateInfo(username, email, nickname, name);
 
+        // 5. update 쿼리를 바로 실행해서 동시 수정으로 인한 유니크 제약조건 위반을 중복 에러로 변환
+        userRepository.flush();
+
+        // 6. 커밋 후 중복 확인 캐시에서 바뀐 값만 교체
+        Map<UniqueField, String> after = uniqueValuesOf(username, email, nickname);
+        Map<UniqueField, String> released = new EnumMap<>(UniqueField.class);
+        Map<UniqueField, String> reserved = new EnumMap<>(UniqueField.class);
+        after.forEach((field, value) -> {
+            if (!value.equalsIgnoreCase(before.get(field))) {
+                released.put(field, before.get(field));
+                reserved.put(field, value);
+            }
+        });
+        userAvailabilityCache.replaceAfterCommit(released, reserved);
+
         // 7. 반환
         UserUpdateResDto resDto = UserUpdateResDto.builder()
                 .username(user.getUsername().getUsername())
@@ -198,6 +268,7 @@ public class UserService {
      * @param userId, reqDto
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_INFO, key = "#userId")
     public void deleteUser(Long userId, UserDeleteReqDto reqDto) {
 
         User user = userRepository.findById(userId).orElseThrow(() -> new UserException(USER_NOT_FOUND));
@@ -208,6 +279,7 @@ public class UserService {
         }
 
         // 2. User 테이블의 isActive를 false로 변경
+        // 탈퇴해도 아이디/이메일/닉네임은 DB에 남아 재사용할 수 없으므로 중복 확인 캐시는 그대로 유지
         user.deactivate();
 
     }
@@ -233,11 +305,13 @@ public class UserService {
             throw new UserException(SAME_AS_OLD_PASSWORD);
         }
 
-        // 5. 비밀번호 변경
+        // 5. 비밀번호 변경 (userId를 요청에서 알 수 없으므로 캐시는 직접 삭제, 커밋 이후 반영)
         user.updatePassword(reqDto.getPassword(), passwordEncoder);
+        evictUserInfoCache(user.getId());
 
-        // 6. redis에 해당 키 삭제
+        // 6. redis에 해당 키 삭제 (다음 요청은 새 토큰 발급)
         redisService.delete(redisKey);
+        redisService.delete(MailService.pendingKey(MailService.FIND_PASSWORD_PENDING_PREFIX, emailKey));
 
     }
 
@@ -247,6 +321,7 @@ public class UserService {
      * @param reqDto
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_INFO, key = "#userId")
     public void changePassword(Long userId, UserPasswordChangeReqDto reqDto) {
 
         // 1. 입력한 비밀번호가 DB의 비밀번호와 일치하는지 확인
@@ -275,14 +350,20 @@ public class UserService {
     @Transactional
     public UserLoginResDto refreshToken(String refreshToken) {
 
-        // 1. RefreshToken 검증
-        jwtUtil.validateToken(refreshToken);
+        // 1. RefreshToken 검증 (서명, 만료, 토큰 타입)
+        VerifiedToken verifiedRefreshToken = jwtUtil.verify(refreshToken)
+                .orElseThrow(() -> new UserException(REFRESH_TOKEN_EXPIRED));
+        if (!"refresh".equals(verifiedRefreshToken.getType())) {
+            throw new UserException(INVALID_REFRESH_TOKEN);
+        }
 
-        // 2. RefreshToken이 블랙리스트인지 확인
-        jwtUtil.validateRefreshTokenBlackList(refreshToken);
+        // 2. 블랙리스트 확인과 폐기를 원자적으로 처리 (이미 사용된 토큰이면 재사용으로 보고 거절)
+        if (!redisService.rotateRefreshToken(verifiedRefreshToken, refreshToken)) {
+            throw new UserException(EXPIRED_REFRESH_TOKEN);
+        }
 
         // 3. user 조회
-        User user = userRepository.findById(jwtUtil.getUserId(refreshToken))
+        User user = userRepository.findById(verifiedRefreshToken.getUserId())
                 .orElseThrow(() -> new UserException(USER_NOT_FOUND));
 
         // 4. 탈퇴한 사용자인지 검증
@@ -290,8 +371,8 @@ public class UserService {
             throw new UserException(INACTIVE_ACCOUNT);
         }
 
-        // 5. 사용된 리프레시 토큰을 블랙리스트로 저장
-        redisService.saveRefreshBlackList(refreshToken, jwtUtil.getRemainingExpirationMillis(refreshToken));
+        // 5. 사용된 리프레시 토큰은 검증 캐시에서 제거
+        jwtUtil.evictVerifiedToken(refreshToken);
 
         // 6. Token에 사용자 정보를 담기
         JwtTokenReqDto userInfo = jwtUtil.createTokenDto(user);
@@ -322,6 +403,35 @@ public class UserService {
         }
     }
 
+    /**
+     * username, email, nickname 중복 검사 (한 번의 쿼리)
+     * 여러 컬럼이 겹치면 이메일 -> 아이디 -> 닉네임 순서로 에러를 반환
+     * @param excludeUserId 회원정보 수정 시 본인 id, 회원가입 시 null
+     */
+    private void validateNotDuplicated(Username username, Email email, Nickname nickname, Long excludeUserId) {
+        EnumSet<UniqueField> duplicated = userQueryRepository.findDuplicatedFields(username, email, nickname, excludeUserId);
+        if (!duplicated.isEmpty()) {
+            throw new UserException(duplicated.iterator().next().getErrorCode());
+        }
+    }
+
+    // 내 정보 조회 캐시 삭제 (트랜잭션 안이면 커밋 이후 삭제)
+    private void evictUserInfoCache(Long userId) {
+        Cache cache = cacheManager.getCache(CacheNames.USER_INFO);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+
+    // 중복 확인 캐시에 저장할 컬럼별 값
+    private Map<UniqueField, String> uniqueValuesOf(Username username, Email email, Nickname nickname) {
+        Map<UniqueField, String> values = new EnumMap<>(UniqueField.class);
+        values.put(UniqueField.USERNAME, username.getUsername());
+        values.put(UniqueField.EMAIL, email.getEmail());
+        values.put(UniqueField.NICKNAME, nickname.getNickname());
+        return values;
+    }
+
     /**
      * 이메일 인증을 확인하는 로직
      * @param email
@@ -0,0 +1,77 @@
+package com.smallsquare.modules.user.domain.entity;
+
+import com.smallsquare.common.util.BaseTimeEntity;
+import com.smallsquare.modules.user.domain.enums.MailStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 메일 (outbox)
+ * 요청 처리 중에는 이 테이블에 저장만 하고, 실제 SMTP 발송은 MailOutboxWorker가 비동기로 처리
+ */
+@Entity
+@Getter
+@Builder
+@Table(name = "mail_outbox", indexes = {
+        // 발송 대상 조회 (status IN (...) AND next_attempt_at <= ?)
+        @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_outbox_id")
+    private Long id;
+
+    @Column(name = "to_email", nullable = false)
+    private String toEmail;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "body", nullable = false, length = 2000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private MailStatus status;
+
+    // 발송 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // PENDING : 다음 발송 시각, SENDING : 다른 워커가 다시 가져갈 수 있는 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * MailOutbox 빌더 (바로 발송 대상)
+     * @param toEmail
+     * @param subject
+     * @param body
+     * @return
+     */
+    public static MailOutbox of(String toEmail, String subject, String body) {
+        return MailOutbox.builder()
+                .toEmail(toEmail)
+                .subject(subject)
+                .body(body)
+                .status(MailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
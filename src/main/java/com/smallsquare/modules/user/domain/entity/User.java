@@ -14,6 +14,11 @@ import lombok.NoArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Entity @Getter @Builder
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_username", columnNames = "username"),
+        @UniqueConstraint(name = "uk_user_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_user_nickname", columnNames = "nickname")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class User extends BaseTimeEntity {
@@ -71,4 +76,8 @@ public class User extends BaseTimeEntity {
         password = new Password(newRowPassword, passwordEncoder);
     }
 
+    public void rehashPassword(String rawPassword, PasswordEncoder passwordEncoder) {
+        password = Password.rehash(rawPassword, passwordEncoder);
+    }
+
 }
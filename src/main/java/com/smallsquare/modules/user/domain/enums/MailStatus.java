@@ -0,0 +1,11 @@
+package com.smallsquare.modules.user.domain.enums;
+
+public enum MailStatus {
+    // 발송 대기 (next_attempt_at 이후 발송)
+    PENDING,
+    // 워커가 가져가서 발송 중 (next_attempt_at까지 다른 워커가 가져가지 않음)
+    SENDING,
+    SENT,
+    // 최대 재시도 횟수 초과
+    FAILED
+}
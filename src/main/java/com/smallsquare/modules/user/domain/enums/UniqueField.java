@@ -0,0 +1,42 @@
+package com.smallsquare.modules.user.domain.enums;
+
+import com.smallsquare.modules.user.exception.errorCode.UserErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * User 테이블의 유니크 컬럼
+ * 선언 순서 = 중복 에러를 알려주는 우선순위 (이메일 -> 아이디 -> 닉네임)
+ */
+@AllArgsConstructor
+@Getter
+public enum UniqueField {
+    EMAIL("uk_user_email", UserErrorCode.DUPLICATED_EMAIL),
+    USERNAME("uk_user_username", UserErrorCode.DUPLICATED_USERNAME),
+    NICKNAME("uk_user_nickname", UserErrorCode.DUPLICATED_NICKNAME);
+
+    private final String constraintName;
+    private final UserErrorCode errorCode;
+
+    /**
+     * DB 에러 메시지(또는 제약조건 이름)에 포함된 유니크 제약조건으로 컬럼 찾기
+     * ex) Duplicate entry 'abc' for key 'user.uk_user_email'
+     * @param message
+     * @return 해당 컬럼 (유니크 제약조건 위반이 아니면 empty)
+     */
+    public static Optional<UniqueField> fromConstraintMessage(String message) {
+        if (message == null) {
+            return Optional.empty();
+        }
+        String lowerCase = message.toLowerCase(Locale.ROOT);
+        for (UniqueField field : values()) {
+            if (lowerCase.contains(field.constraintName)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+}
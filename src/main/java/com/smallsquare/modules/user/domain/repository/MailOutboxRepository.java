@@ -0,0 +1,40 @@
+package com.smallsquare.modules.user.domain.repository;
+
+import com.smallsquare.modules.user.domain.entity.MailOutbox;
+import com.smallsquare.modules.user.domain.vo.ClaimedMail;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository {
+
+    MailOutbox save(MailOutbox mailOutbox);
+
+    /**
+     * 발송할 메일을 가져감 (다른 워커가 잡고 있는 행은 건너뜀)
+     * 가져간 메일은 SENDING으로 바꾸고 lease 동안 다른 워커가 가져가지 않음 (그 안에 결과를 반영하지 못하면 다시 발송 대상)
+     * @param limit
+     * @param lease
+     * @return 가져간 메일 목록
+     */
+    List<ClaimedMail> claim(int limit, Duration lease);
+
+    void markSent(Collection<Long> ids);
+
+    // 다시 PENDING으로 돌려서 nextAttemptAt 이후에 재시도
+    void markRetry(Long id, LocalDateTime nextAttemptAt, String error);
+
+    void markFailed(Long id, String error);
+
+    /**
+     * 오래된 발송 완료 메일 삭제
+     * @param before
+     * @param limit
+     * @return 삭제된 행 수
+     */
+    int deleteSentBefore(LocalDateTime before, int limit);
+}
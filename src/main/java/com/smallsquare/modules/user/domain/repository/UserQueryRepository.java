@@ -1,8 +1,15 @@
 package com.smallsquare.modules.user.domain.repository;
 
+import com.smallsquare.modules.user.domain.enums.UniqueField;
+import com.smallsquare.modules.user.domain.vo.Email;
+import com.smallsquare.modules.user.domain.vo.Nickname;
+import com.smallsquare.modules.user.domain.vo.UserIdentity;
+import com.smallsquare.modules.user.domain.vo.Username;
 import com.smallsquare.modules.user.web.dto.response.UserInfoResDto;
 import org.springframework.stereotype.Repository;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,4 +17,19 @@ public interface UserQueryRepository {
 
     Optional<UserInfoResDto> findUserInfoByUserId(Long userId);
 
+    /**
+     * username, email, nickname 중 다른 회원이 이미 사용 중인 값을 한 번의 쿼리로 조회
+     * null인 값은 검사하지 않음
+     * @param excludeUserId 본인(회원정보 수정 시)은 제외, 회원가입 시 null
+     * @return 중복된 컬럼 목록
+     */
+    EnumSet<UniqueField> findDuplicatedFields(Username username, Email email, Nickname nickname, Long excludeUserId);
+
+    /**
+     * 아이디 / 이메일 / 닉네임을 user_id 순서로 나눠서 조회 (탈퇴한 회원 포함)
+     * @param lastUserId 이전 페이지의 마지막 user_id (첫 페이지는 null)
+     * @param size
+     */
+    List<UserIdentity> findUserIdentitiesAfter(Long lastUserId, int size);
+
 }
@@ -13,6 +13,11 @@ public interface UserRepository {
 
     User save(User user);
 
+    /**
+     * 변경 내용을 즉시 DB에 반영 (유니크 제약조건 위반을 트랜잭션 안에서 확인하기 위함)
+     */
+    void flush();
+
     boolean existsByUsername(Username username);
 
     boolean existsByEmail(Email email);
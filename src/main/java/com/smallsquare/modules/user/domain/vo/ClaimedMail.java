@@ -0,0 +1,23 @@
+package com.smallsquare.modules.user.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 워커가 발송하려고 가져간 메일 한 건
+ */
+@Getter
+@AllArgsConstructor
+public class ClaimedMail {
+
+    private final Long id;
+
+    private final String toEmail;
+
+    private final String subject;
+
+    private final String body;
+
+    // 이번 시도를 포함한 시도 횟수
+    private final int attempts;
+}
@@ -38,6 +38,21 @@ public class Password {
         this.password = encoder.encode(password);
     }
 
+    private Password(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    /**
+     * 이미 검증된 평문 비밀번호를 현재 설정(cost 등)으로 다시 해시 (로그인 성공 시)
+     * 기존 비밀번호는 가입 당시 규칙으로 검증되었으므로 형식 검증은 생략
+     * @param rawPassword
+     * @param encoder
+     * @return 재해시된 Password
+     */
+    public static Password rehash(String rawPassword, PasswordEncoder encoder) {
+        return new Password(encoder.encode(rawPassword));
+    }
+
     /**
      * 비밀번호 검증
      *
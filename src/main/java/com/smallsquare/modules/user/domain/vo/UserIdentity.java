@@ -0,0 +1,21 @@
+package com.smallsquare.modules.user.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원을 식별하는 유니크 값 묶음 (아이디 / 이메일 / 닉네임)
+ * 중복 확인용 캐시를 채울 때 User 엔티티 전체 대신 조회
+ */
+@Getter
+@AllArgsConstructor
+public class UserIdentity {
+
+    private final Long userId;
+
+    private final String username;
+
+    private final String email;
+
+    private final String nickname;
+}
@@ -22,6 +22,7 @@ public enum UserErrorCode {
     SAME_AS_OLD_PASSWORD("이전과 동일한 비밀번호는 사용할 수 없습니다.", HttpStatus.BAD_REQUEST),
     EMAIL_NOT_VERIFIED("이메일 인증이 완료되지 않았습니다.", HttpStatus.FORBIDDEN),
     EXPIRED_REFRESH_TOKEN("폐기된 리프레시 토큰입니다.", HttpStatus.UNAUTHORIZED),
+    INVALID_REFRESH_TOKEN("유효하지 않은 리프레시 토큰입니다.", HttpStatus.UNAUTHORIZED),
     PASSWORD_NOT_NULL("비밀번호는 필수 값입니다.", HttpStatus.BAD_REQUEST),
     PASSWORD_WRONG_PATTERN("비밀번호는 8자 이상, 영문자, 숫자, 특수문자를 포함해야합니다.", HttpStatus.BAD_REQUEST),
     EMAIL_NOT_NULL("이메일은 필수 값입니다.", HttpStatus.BAD_REQUEST),
@@ -31,7 +32,8 @@ public enum UserErrorCode {
     NICKNAME_NOT_NULL("회원 닉네임은 필수 값입니다.", HttpStatus.BAD_REQUEST),
     NICKNAME_WRONG_PATTERN("회원 닉네임은 최소 3글자, 최대 15글자까지 가능하며 특수문자는 사용할 수 없습니다.", HttpStatus.BAD_REQUEST),
     NAME_NOT_NULL("회원 이름은 필수 값입니다.", HttpStatus.BAD_REQUEST),
-    NAME_WRONG_PATTERN("올바르지 않은 이름 형식입니다.", HttpStatus.BAD_REQUEST);
+    NAME_WRONG_PATTERN("올바르지 않은 이름 형식입니다.", HttpStatus.BAD_REQUEST),
+    PASSWORD_HASHING_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS);
 
 
 
@@ -1,7 +1,9 @@
 package com.smallsquare.modules.user.infrastructure.auth.filter;
 
 import com.smallsquare.modules.user.infrastructure.jwt.JwtUtil;
+import com.smallsquare.modules.user.infrastructure.jwt.VerifiedToken;
 import com.smallsquare.modules.user.infrastructure.auth.model.CustomUserDetails;
+import com.smallsquare.modules.user.infrastructure.redis.AccessTokenBlacklist;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +20,7 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final AccessTokenBlacklist accessTokenBlacklist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -28,13 +31,16 @@ public class JwtFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
+            // 1. 토큰 검증과 Claims 파싱을 한 번에 처리 (같은 토큰이면 캐시된 결과 사용)
+            VerifiedToken verifiedToken = jwtUtil.verify(token).orElse(null);
 
-            if (jwtUtil.validateToken(token)) {
-                Long userId = jwtUtil.getUserId(token);
-                String username = jwtUtil.getUsername(token);
-                String role = jwtUtil.getRole(token); // "ROLE_USER", "ROLE_ADMIN" 등
-
-                CustomUserDetails userDetails = new CustomUserDetails(userId, username, role);
+            // 2. 로그아웃된 토큰은 인증 처리하지 않음 (로컬 Bloom Filter에 걸릴 때만 Redis 조회)
+            if (verifiedToken != null && !accessTokenBlacklist.isRevoked(verifiedToken, token)) {
+                CustomUserDetails userDetails = new CustomUserDetails(
+                        verifiedToken.getUserId(),
+                        verifiedToken.getUsername(),
+                        verifiedToken.getRole() // "ROLE_USER", "ROLE_ADMIN" 등
+                );
 
                 Authentication authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities()
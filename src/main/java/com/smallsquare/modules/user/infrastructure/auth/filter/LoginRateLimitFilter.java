@@ -0,0 +1,105 @@
+package com.smallsquare.modules.user.infrastructure.auth.filter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.smallsquare.infrastructure.ratelimit.ClientIpResolver;
+import com.smallsquare.infrastructure.ratelimit.RateLimitResult;
+import com.smallsquare.modules.user.infrastructure.auth.ratelimit.LoginRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 로그인 요청 제한 필터 (POST /users/login)
+ * DB 조회와 BCrypt 검증 전에 IP별 -> 아이디별 순서로 확인하고, 초과하면 429 + Retry-After로 바로 응답
+ * 아이디를 꺼내기 위해 본문을 먼저 읽으므로 컨트롤러에는 본문을 보관한 요청을 넘김
+ */
+@RequiredArgsConstructor
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/users/login";
+
+    // 로그인 요청 본문 최대 크기 (아이디 + 비밀번호 JSON)
+    private static final int MAX_BODY_BYTES = 4 * 1024;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final LoginRateLimiter loginRateLimiter;
+    private final ClientIpResolver clientIpResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !LOGIN_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // 1. IP별 제한 (본문을 읽기 전에 확인)
+        RateLimitResult ipResult = loginRateLimiter.tryIp(clientIpResolver.resolve(request));
+        if (!ipResult.isAllowed()) {
+            reject(response, ipResult);
+            return;
+        }
+
+        // 2. 본문 보관 (너무 크면 로그인 요청이 아니므로 거절)
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+
+        // 3. 아이디별 제한 (아이디가 없으면 컨트롤러에서 로그인 실패 처리)
+        String username = readUsername(body);
+        if (username != null && !username.isBlank()) {
+            RateLimitResult usernameResult = loginRateLimiter.tryUsername(username);
+            if (!usernameResult.isAllowed()) {
+                reject(response, usernameResult);
+                return;
+            }
+        }
+
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    private void reject(HttpServletResponse response, RateLimitResult result) throws IOException {
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(result.getRetryAfterSeconds()));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"error\": \"로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.\"}");
+    }
+
+    // 최상위 username 필드만 스트리밍으로 찾음 (DTO 전체 바인딩은 컨트롤러에서)
+    private static String readUsername(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("username".equals(field)) {
+                    return (value == JsonToken.VALUE_STRING) ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            // 잘못된 JSON은 컨트롤러에서 400 처리
+            return null;
+        }
+    }
+}
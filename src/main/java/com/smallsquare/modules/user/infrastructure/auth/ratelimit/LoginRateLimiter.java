@@ -0,0 +1,53 @@
+package com.smallsquare.modules.user.infrastructure.auth.ratelimit;
+
+import com.smallsquare.infrastructure.ratelimit.LocalTokenBucketRateLimiter;
+import com.smallsquare.infrastructure.ratelimit.RateLimitPolicy;
+import com.smallsquare.infrastructure.ratelimit.RateLimitResult;
+import com.smallsquare.infrastructure.ratelimit.RateLimiter;
+import com.smallsquare.infrastructure.ratelimit.RedisTokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인 시도 제한 (IP별, 아이디별 토큰 버킷)
+ * LOGIN_RATE_LIMIT_MODE
+ * 1. local(기본) : 서버 메모리 버킷 (서버마다 따로 계산, Redis 왕복 없음)
+ * 2. redis       : Redis 버킷 (여러 서버가 합산해서 제한, Redis 장애 시 허용)
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitPolicy ipPolicy;
+    private final RateLimitPolicy usernamePolicy;
+
+    public LoginRateLimiter(RedisTokenBucketRateLimiter redisRateLimiter,
+                            @Value("${LOGIN_RATE_LIMIT_MODE:local}") String mode,
+                            @Value("${LOGIN_RATE_LIMIT_STRIPES:64}") int stripes,
+                            @Value("${LOGIN_RATE_LIMIT_MAX_KEYS_PER_STRIPE:2048}") int maxKeysPerStripe,
+                            @Value("${LOGIN_RATE_LIMIT_IP_CAPACITY:20}") int ipCapacity,
+                            @Value("${LOGIN_RATE_LIMIT_IP_PERIOD_MS:60000}") long ipPeriodMs,
+                            @Value("${LOGIN_RATE_LIMIT_USERNAME_CAPACITY:5}") int usernameCapacity,
+                            @Value("${LOGIN_RATE_LIMIT_USERNAME_PERIOD_MS:300000}") long usernamePeriodMs) {
+        this.rateLimiter = "redis".equalsIgnoreCase(mode)
+                ? redisRateLimiter
+                : new LocalTokenBucketRateLimiter(stripes, maxKeysPerStripe);
+        this.ipPolicy = new RateLimitPolicy(ipCapacity, Duration.ofMillis(ipPeriodMs));
+        this.usernamePolicy = new RateLimitPolicy(usernameCapacity, Duration.ofMillis(usernamePeriodMs));
+        log.info("로그인 요청 제한 mode={}", rateLimiter.getClass().getSimpleName());
+    }
+
+    public RateLimitResult tryIp(String clientIp) {
+        return rateLimiter.tryAcquire("login:ip:" + clientIp, ipPolicy);
+    }
+
+    // 대소문자/공백만 다른 아이디로 제한을 우회하지 않도록 정규화
+    public RateLimitResult tryUsername(String username) {
+        return rateLimiter.tryAcquire("login:username:" + username.trim().toLowerCase(Locale.ROOT), usernamePolicy);
+    }
+}
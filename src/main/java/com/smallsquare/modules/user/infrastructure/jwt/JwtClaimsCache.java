@@ -0,0 +1,79 @@
+package com.smallsquare.modules.user.infrastructure.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증이 끝난 토큰을 토큰 해시(SHA-256) 기준으로 보관하는 프로세스 내 캐시
+ * 같은 Access Token으로 들어오는 반복 요청은 만료(exp) 전까지 서명 검증을 생략
+ * 최대 개수를 넘으면 만료된 항목부터 정리하고, 그래도 가득 차 있으면 일부를 비워서 크기를 제한
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final ConcurrentHashMap<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public JwtClaimsCache(@Value("${JWT_CLAIMS_CACHE_MAX_SIZE:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시 조회 (만료된 항목은 제거 후 null 반환)
+     * @param key
+     * @return VerifiedToken or null
+     */
+    public VerifiedToken get(String key) {
+        VerifiedToken verifiedToken = cache.get(key);
+        if (verifiedToken == null) {
+            return null;
+        }
+        if (verifiedToken.isExpired()) {
+            cache.remove(key, verifiedToken);
+            return null;
+        }
+        return verifiedToken;
+    }
+
+    public void put(String key, VerifiedToken verifiedToken) {
+        if (maxSize <= 0 || verifiedToken.isExpired()) {
+            return;
+        }
+        if (cache.size() >= maxSize) {
+            evict();
+        }
+        cache.put(key, verifiedToken);
+    }
+
+    public void invalidate(String key) {
+        cache.remove(key);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 토큰 원문 대신 고정 길이 해시를 키로 사용 (긴 JWT 문자열을 그대로 들고 있지 않기 위함)
+     * @param token
+     * @return Base64 인코딩된 SHA-256 해시
+     */
+    public static String keyOf(String token) {
+        return TokenHash.of(token);
+    }
+
+    // 1. 만료된 항목 정리 -> 2. 그래도 가득 차 있으면 1/10 정도를 임의로 제거
+    private void evict() {
+        cache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+
+        int toRemove = cache.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
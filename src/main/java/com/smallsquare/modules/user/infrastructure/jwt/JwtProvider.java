@@ -10,6 +10,8 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
 
 @Component // 빈 등록
@@ -25,6 +27,10 @@ public class JwtProvider {
     private static final String ROLE = "role";
     private static final String TYPE = "type";
 
+    // jti 생성용 (128bit 난수 -> Base64 22자)
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int TOKEN_ID_BYTES = 16;
+
     @Value("${JWT_ACCESS_EXPIRATION}")
     private Long accessTokenExpiration;
 
@@ -43,6 +49,7 @@ public class JwtProvider {
     public String createToken(JwtTokenReqDto reqDto, Long expiredMs, String type) {
         Date now = new Date();
         return Jwts.builder()
+                .id(newTokenId())
                 .subject(String.valueOf(reqDto.getUserId()))
                 .claim(USERNAME, reqDto.getUsername())
                 .claim(NICKNAME_CLAIM, reqDto.getNickname())
@@ -73,4 +80,11 @@ public class JwtProvider {
     public String createRefreshToken(JwtTokenReqDto dto) {
         return createToken(dto, refreshTokenExpiration, "refresh");
     }
+
+    // 토큰마다 고유한 jti 발급 (블랙리스트 키로 토큰 원문 대신 사용)
+    private String newTokenId() {
+        byte[] bytes = new byte[TOKEN_ID_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
 }
@@ -1,8 +1,6 @@
 package com.smallsquare.modules.user.infrastructure.jwt;
 
 import com.smallsquare.modules.user.domain.entity.User;
-import com.smallsquare.modules.user.exception.exception.UserException;
-import com.smallsquare.modules.user.infrastructure.redis.RedisService;
 import com.smallsquare.modules.user.web.dto.request.JwtTokenReqDto;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtParser;
@@ -10,97 +8,126 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
-
-import static com.smallsquare.modules.user.exception.errorCode.UserErrorCode.EXPIRED_REFRESH_TOKEN;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
 
     private final JwtParser jwtParser;
     private final SecretKey secretKey;
-    private final RedisService redisService;
+    private final JwtClaimsCache claimsCache;
 
-    public JwtUtil(@Value("${JWT_SECRET_KEY}") String secret, RedisService redisService) {
+    public JwtUtil(@Value("${JWT_SECRET_KEY}") String secret, JwtClaimsCache claimsCache) {
         this.secretKey = new SecretKeySpec(
                 secret.getBytes(StandardCharsets.UTF_8),
                 SignatureAlgorithm.HS256.getJcaName()
         );
-        this.redisService = redisService;
+        this.claimsCache = claimsCache;
         this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     // 토큰 전체 Claims 추출
     public Claims parseAllClaims(String token) {
-        return jwtParser.parseSignedClaims(token).getBody();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 토큰을 한 번만 검증/파싱해서 VerifiedToken으로 반환
+     * 캐시에 있으면 만료(exp) 전까지는 서명 검증을 다시 하지 않음
+     * @param token
+     * @return VerifiedToken (검증 실패 시 JwtException 발생)
+     */
+    public VerifiedToken parseVerifiedToken(String token) {
+        String key = JwtClaimsCache.keyOf(token);
+
+        VerifiedToken cached = claimsCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verifiedToken = VerifiedToken.from(parseAllClaims(token), key);
+        claimsCache.put(key, verifiedToken);
+        return verifiedToken;
+    }
+
+    /**
+     * 토큰 검증 (실패 시 예외 대신 빈 값 반환)
+     * @param token
+     * @return Optional<VerifiedToken>
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            return Optional.of(parseVerifiedToken(token));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
     }
 
     public Long getUserId(String token) {
-        return Long.parseLong(jwtParser.parseSignedClaims(token).getPayload().getSubject());
+        return parseVerifiedToken(token).getUserId();
     }
 
     // Username 추출
     public String getUsername(String token) {
-        return parseAllClaims(token).get("username", String.class);
+        return parseVerifiedToken(token).getUsername();
     }
 
     // Nickname 추출
     public String getNickname(String token) {
-        return parseAllClaims(token).get("nickname", String.class);
+        return parseVerifiedToken(token).getNickname();
     }
 
     // Email 추출
     public String getEmail(String token) {
-        return parseAllClaims(token).get("email", String.class);
+        return parseVerifiedToken(token).getEmail();
     }
 
     // Name 추출
     public String getName(String token) {
-        return parseAllClaims(token).get("name", String.class);
+        return parseVerifiedToken(token).getName();
     }
 
     // Token Type 추출 (Access/Refresh)
     public String getTokenType(String token) {
-        return parseAllClaims(token).get("type", String.class);
+        return parseVerifiedToken(token).getType();
     }
 
     public String getRole(String token) {
-        return parseAllClaims(token).get("role", String.class);
+        return parseVerifiedToken(token).getRole();
     }
 
     // 토큰 발급시간(IssuedAt) 추출
     public Date getIssuedAt(String token) {
-        return parseAllClaims(token).getIssuedAt();
+        return parseVerifiedToken(token).getIssuedAt();
     }
 
     // 토큰 만료시간(Expiration) 추출
     public Date getExpiration(String token) {
-        return parseAllClaims(token).getExpiration();
+        return parseVerifiedToken(token).getExpiration();
     }
 
     // 현재 시간 기준 남은 만료시간(ms)
     public long getRemainingExpirationMillis(String token) {
-        long now = System.currentTimeMillis();
-        return getExpiration(token).getTime() - now;
+        return parseVerifiedToken(token).getRemainingExpirationMillis();
     }
 
     // 토큰 만료 여부 확인
     public boolean isExpired(String token) {
-        return getExpiration(token).before(new Date());
+        return parseVerifiedToken(token).isExpired();
     }
 
     public boolean validateToken(String token) {
-        try {
-            jwtParser.parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).isPresent();
+    }
+
+    // 로그아웃 등으로 더 이상 쓰이지 않는 토큰을 캐시에서 제거
+    public void evictVerifiedToken(String token) {
+        claimsCache.invalidate(JwtClaimsCache.keyOf(token));
     }
 
     /**
@@ -118,15 +145,4 @@ public class JwtUtil {
                 .role(user.getRole())
                 .build();
     }
-
-    /**
-     * 토큰 재발급 시 기존 폐기된 리프레시 토큰이 사용되었는지 확인하는 로직
-     * @param refreshToken
-     */
-    public void validateRefreshTokenBlackList(String refreshToken) {
-        String key = redisService.get("blacklist:refresh:" + refreshToken);
-        if (StringUtils.hasText(key)) {
-            throw new UserException(EXPIRED_REFRESH_TOKEN);
-        }
-    }
 }
@@ -0,0 +1,42 @@
+package com.smallsquare.modules.user.infrastructure.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 토큰/jti를 고정 길이 해시 문자열로 변환하는 유틸
+ * Redis 키나 캐시 키에 JWT 원문(수백 바이트)을 그대로 넣지 않기 위해 사용
+ */
+public final class TokenHash {
+
+    // jti 해시 길이 (128bit -> Base64 22자)
+    private static final int JTI_HASH_BYTES = 16;
+
+    private TokenHash() {
+    }
+
+    // 토큰 원문의 SHA-256 해시 (Base64 43자)
+    public static String of(String token) {
+        return encode(sha256(token));
+    }
+
+    // jti의 SHA-256 해시 앞 128bit (Base64 22자)
+    public static String ofJti(String jti) {
+        return encode(Arrays.copyOf(sha256(jti), JTI_HASH_BYTES));
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,74 @@
+package com.smallsquare.modules.user.infrastructure.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims를 한 번만 파싱해서 담아두는 객체
+ * JwtFilter, JwtUtil에서 같은 토큰을 여러 번 parseSignedClaims 하지 않도록 사용
+ */
+@Getter
+public class VerifiedToken {
+
+    // jti (jti 도입 이전에 발급된 토큰은 null)
+    private final String tokenId;
+
+    // 블랙리스트/Bloom Filter에서 사용하는 고정 길이 식별자
+    // jti가 있으면 jti 해시, 없으면(이전 토큰) 토큰 원문 해시
+    private final String revocationId;
+
+    private final Long userId;
+    private final String username;
+    private final String nickname;
+    private final String email;
+    private final String name;
+    private final String role;
+    private final String type;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    private VerifiedToken(Claims claims, String tokenHash) {
+        this.tokenId = claims.getId();
+        this.revocationId = (tokenId != null) ? TokenHash.ofJti(tokenId) : tokenHash;
+        this.userId = Long.parseLong(claims.getSubject());
+        this.username = claims.get("username", String.class);
+        this.nickname = claims.get("nickname", String.class);
+        this.email = claims.get("email", String.class);
+        this.name = claims.get("name", String.class);
+        this.role = claims.get("role", String.class);
+        this.type = claims.get("type", String.class);
+        this.issuedAt = claims.getIssuedAt();
+        this.expiration = claims.getExpiration();
+    }
+
+    /**
+     * @param claims    서명 검증이 끝난 Claims
+     * @param tokenHash 토큰 원문 해시 (TokenHash.of)
+     */
+    public static VerifiedToken from(Claims claims, String tokenHash) {
+        return new VerifiedToken(claims, tokenHash);
+    }
+
+    // jti 도입 이전에 발급된 토큰인지 여부 (이전 형식의 블랙리스트 키도 확인해야 함)
+    public boolean isLegacy() {
+        return tokenId == null;
+    }
+
+    // 현재 시간 기준 남은 만료시간(ms)
+    public long getRemainingExpirationMillis() {
+        return expiration.getTime() - System.currentTimeMillis();
+    }
+
+    // 현재 시간 기준 남은 유효기간 (블랙리스트 등 Redis TTL로 사용, 만료됐으면 0)
+    public Duration getRemainingTtl() {
+        return Duration.ofMillis(Math.max(0, getRemainingExpirationMillis()));
+    }
+
+    // 토큰 만료 여부 확인
+    public boolean isExpired() {
+        return getRemainingExpirationMillis() <= 0;
+    }
+}
@@ -0,0 +1,233 @@
+package com.smallsquare.modules.user.infrastructure.mail;
+
+import com.smallsquare.modules.user.domain.repository.MailOutboxRepository;
+import com.smallsquare.modules.user.domain.vo.ClaimedMail;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메일 outbox 발송 워커
+ * 1. 주기적으로 발송할 메일을 batchSize개씩 가져옴 (SKIP LOCKED라 여러 서버가 동시에 실행해도 중복 발송하지 않음)
+ * 2. connections개 묶음으로 나눠서 가상 스레드에서 발송 (묶음마다 SMTP 연결 하나로 여러 통을 보냄)
+ * 3. 성공은 SENT, 실패는 지수 백오프(+jitter) 후 재시도, 최대 시도 횟수를 넘으면 FAILED
+ * 발송은 워커 전용 실행기에서 하고 스케줄러 스레드는 바로 반환 (SMTP가 느려도 다른 @Scheduled 작업이 밀리지 않도록)
+ * 한 주기에 최대 maxBatchesPerPoll개 batch만 처리하고, 남은 메일은 다음 주기에 처리
+ */
+@Slf4j
+@Component
+public class MailOutboxWorker implements DisposableBean {
+
+    // 발송 결과를 반영하지 못하고 종료된 경우 다시 발송 대상이 되기까지의 시간
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+    private static final Duration SENT_RETENTION = Duration.ofDays(7);
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final int batchSize;
+    private final int connections;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final int maxBatchesPerPoll;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 이전 주기의 발송이 아직 진행 중이면 새로 시작하지 않음
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    public MailOutboxWorker(MailOutboxRepository mailOutboxRepository,
+                            JavaMailSender mailSender,
+                            @Value("${MAIL_FROM:smallsquare99@gmail.com}") String from,
+                            @Value("${MAIL_OUTBOX_BATCH_SIZE:50}") int batchSize,
+                            @Value("${MAIL_OUTBOX_CONNECTIONS:4}") int connections,
+                            @Value("${MAIL_OUTBOX_MAX_ATTEMPTS:5}") int maxAttempts,
+                            @Value("${MAIL_OUTBOX_BASE_BACKOFF_MS:10000}") long baseBackoffMs,
+                            @Value("${MAIL_OUTBOX_MAX_BATCHES_PER_POLL:10}") int maxBatchesPerPoll) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.connections = Math.max(1, connections);
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBatchesPerPoll = Math.max(1, maxBatchesPerPoll);
+    }
+
+    /**
+     * 발송 작업을 워커 실행기에 넘기고 바로 반환 (이전 작업이 진행 중이면 건너뜀)
+     */
+    @Scheduled(initialDelayString = "${MAIL_OUTBOX_POLL_INTERVAL_MS:1000}",
+            fixedDelayString = "${MAIL_OUTBOX_POLL_INTERVAL_MS:1000}")
+    public void poll() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    draining.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            draining.set(false);
+        }
+    }
+
+    /**
+     * batchSize개씩 가져와서 발송 (메일이 없거나 maxBatchesPerPoll개 batch를 처리하면 종료)
+     * @return 처리한 메일 수
+     */
+    public int drain() {
+        int processed = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+                List<ClaimedMail> mails = mailOutboxRepository.claim(batchSize, LEASE);
+                if (mails.isEmpty()) {
+                    break;
+                }
+                sendAll(mails);
+                processed += mails.size();
+                if (mails.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 가져간 메일은 lease가 끝나면 다시 발송 대상이 됨
+            log.warn("메일 outbox 처리 실패", e);
+        }
+        return processed;
+    }
+
+    // 발송 완료 후 보관 기간이 지난 메일 정리
+    @Scheduled(initialDelayString = "${MAIL_OUTBOX_CLEANUP_INTERVAL_MS:3600000}",
+            fixedDelayString = "${MAIL_OUTBOX_CLEANUP_INTERVAL_MS:3600000}")
+    public void cleanUp() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(SENT_RETENTION);
+            while (mailOutboxRepository.deleteSentBefore(before, CLEANUP_BATCH_SIZE) == CLEANUP_BATCH_SIZE) {
+                // 한 번에 많은 행을 지우지 않도록 나눠서 삭제
+            }
+        } catch (Exception e) {
+            log.warn("메일 outbox 정리 실패", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // connections개 묶음으로 나눠서 동시에 발송하고 모두 끝날 때까지 대기
+    private void sendAll(List<ClaimedMail> mails) throws InterruptedException {
+        int chunkSize = (mails.size() + connections - 1) / connections;
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < mails.size(); start += chunkSize) {
+            List<ClaimedMail> chunk = mails.subList(start, Math.min(start + chunkSize, mails.size()));
+            tasks.add(() -> {
+                sendChunk(chunk);
+                return null;
+            });
+        }
+        executor.invokeAll(tasks);
+    }
+
+    /**
+     * 한 묶음을 SMTP 연결 하나로 발송
+     * JavaMailSender.send(MimeMessage...)는 연결을 한 번 열고 모든 메일을 보낸 뒤 닫음
+     * 일부만 실패하면 MailSendException.getFailedMessages()에 실패한 메일만 담김
+     */
+    private void sendChunk(List<ClaimedMail> chunk) {
+        Map<MimeMessage, ClaimedMail> messages = new IdentityHashMap<>();
+        for (ClaimedMail mail : chunk) {
+            try {
+                messages.put(toMimeMessage(mail), mail);
+            } catch (MessagingException e) {
+                // 메시지를 만들 수 없으면 재시도해도 같으므로 바로 실패 처리
+                mailOutboxRepository.markFailed(mail.getId(), e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failures.putAll(e.getFailedMessages());
+            if (failures.isEmpty()) {
+                messages.keySet().forEach(message -> failures.put(message, e));
+            }
+        } catch (Exception e) {
+            // 연결/인증 실패 등은 묶음 전체 실패
+            messages.keySet().forEach(message -> failures.put(message, e));
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        messages.forEach((message, mail) -> {
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                sentIds.add(mail.getId());
+            } else {
+                handleFailure(mail, failure);
+            }
+        });
+        mailOutboxRepository.markSent(sentIds);
+    }
+
+    private void handleFailure(ClaimedMail mail, Exception failure) {
+        String error = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        if (mail.getAttempts() >= maxAttempts) {
+            log.warn("메일 발송 실패 (재시도 중단) id={} attempts={}", mail.getId(), mail.getAttempts(), failure);
+            mailOutboxRepository.markFailed(mail.getId(), error);
+            return;
+        }
+        mailOutboxRepository.markRetry(mail.getId(), LocalDateTime.now().plus(backoff(mail.getAttempts())), error);
+    }
+
+    // base * 2^(attempts - 1), 최대 MAX_BACKOFF, 동시에 실패한 메일이 같은 시각에 몰리지 않도록 0~20% jitter
+    Duration backoff(int attempts) {
+        long millis = baseBackoff.toMillis() << Math.min(attempts - 1, 20);
+        millis = Math.min(millis, MAX_BACKOFF.toMillis());
+        long jitter = (long) (millis * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(millis + jitter);
+    }
+
+    private MimeMessage toMimeMessage(ClaimedMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(mail.getToEmail());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody());
+        return message;
+    }
+}
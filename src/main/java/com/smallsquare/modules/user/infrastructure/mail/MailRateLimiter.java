@@ -0,0 +1,48 @@
+package com.smallsquare.modules.user.infrastructure.mail;
+
+import com.smallsquare.infrastructure.ratelimit.RateLimitExceededException;
+import com.smallsquare.infrastructure.ratelimit.RateLimitPolicy;
+import com.smallsquare.infrastructure.ratelimit.RateLimitResult;
+import com.smallsquare.infrastructure.ratelimit.RedisTokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 메일 발송 요청 제한 (IP별, 이메일 주소별 토큰 버킷)
+ */
+@Component
+public class MailRateLimiter {
+
+    private final RedisTokenBucketRateLimiter rateLimiter;
+    private final RateLimitPolicy ipPolicy;
+    private final RateLimitPolicy emailPolicy;
+
+    public MailRateLimiter(RedisTokenBucketRateLimiter rateLimiter,
+                           @Value("${MAIL_RATE_LIMIT_IP_CAPACITY:20}") int ipCapacity,
+                           @Value("${MAIL_RATE_LIMIT_IP_PERIOD_MS:3600000}") long ipPeriodMs,
+                           @Value("${MAIL_RATE_LIMIT_EMAIL_CAPACITY:5}") int emailCapacity,
+                           @Value("${MAIL_RATE_LIMIT_EMAIL_PERIOD_MS:3600000}") long emailPeriodMs) {
+        this.rateLimiter = rateLimiter;
+        this.ipPolicy = new RateLimitPolicy(ipCapacity, Duration.ofMillis(ipPeriodMs));
+        this.emailPolicy = new RateLimitPolicy(emailCapacity, Duration.ofMillis(emailPeriodMs));
+    }
+
+    // IP별 제한 (초과하면 RateLimitExceededException)
+    public void checkIp(String clientIp) {
+        check("mail:ip:" + clientIp, ipPolicy);
+    }
+
+    // 이메일 주소별 제한 (초과하면 RateLimitExceededException)
+    public void checkEmail(String email) {
+        check("mail:email:" + email, emailPolicy);
+    }
+
+    private void check(String key, RateLimitPolicy policy) {
+        RateLimitResult result = rateLimiter.tryAcquire(key, policy);
+        if (!result.isAllowed()) {
+            throw new RateLimitExceededException(result);
+        }
+    }
+}
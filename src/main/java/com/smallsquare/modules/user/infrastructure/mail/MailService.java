@@ -1,63 +1,78 @@
 package com.smallsquare.modules.user.infrastructure.mail;
 
+import com.smallsquare.modules.user.domain.entity.MailOutbox;
+import com.smallsquare.modules.user.domain.repository.MailOutboxRepository;
 import com.smallsquare.modules.user.infrastructure.redis.RedisService;
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Locale;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
-    private final JavaMailSender mailSender;
-    private final StringRedisTemplate redisTemplate;
+    private final MailOutboxRepository mailOutboxRepository;
     private final RedisService redisService;
+    private final MailRateLimiter mailRateLimiter;
 
-    public void sendFindAndResetPassword(String toEmail) {
+    // 메일 인증/비밀번호 재설정 토큰 유효기간
+    private static final Duration MAIL_TOKEN_TTL = Duration.ofMinutes(15);
 
-        // 1. UUID 토큰 생성
-        String token = UUID.randomUUID().toString();
+    // 같은 주소로 다시 발송하기까지의 최소 간격 (그 안의 같은 요청은 발송 없이 성공 처리)
+    private static final Duration RESEND_COOLDOWN = Duration.ofMinutes(1);
 
-        // 2. redis에 저장할 key & value 설정
-        String key = "findPassword:token:" + token;
-        String value = toEmail;
+    // 토큰 발급 주소 -> 아직 사용되지 않은 토큰 (유효기간 안에는 같은 토큰을 다시 보냄)
+    public static final String FIND_PASSWORD_PENDING_PREFIX = "findPassword:pending:";
+    public static final String VERIFY_EMAIL_PENDING_PREFIX = "verifyEmail:pending:";
 
-        // 3. redis에 key & value 설정
-        redisTemplate.opsForValue().set(
-                key, value, Duration.ofMinutes(15)
-        );
+    /**
+     * 비밀번호 재설정 메일 발송
+     * @param toEmail
+     * @param clientIp : 요청 제한용
+     */
+    public void sendFindAndResetPassword(String toEmail, String clientIp) {
 
-        // 4. 링크 주소를 포함한 메일 발송
+        // 1. 요청 제한 확인, 짧은 시간 안의 중복 요청이면 종료
+        if (!acquireSend("findPassword", toEmail, clientIp)) {
+            return;
+        }
+
+        // 2. 사용되지 않은 토큰이 있으면 재사용, 없으면 새로 발급
+        String token = issueToken("findPassword:token:", FIND_PASSWORD_PENDING_PREFIX, toEmail);
+
+        // 3. 링크 주소를 포함한 메일 발송
         String resetLink = "http://localhost:8080/reset-password?token=" + token;
         sendFindAndResetEmailText(toEmail, resetLink);
     }
 
-    public void sendVerifyEmail(String toEmail) {
-
-        // 1. UUID 토큰 생성
-        String token = UUID.randomUUID().toString();
+    /**
+     * 이메일 인증 메일 발송
+     * @param toEmail
+     * @param clientIp : 요청 제한용
+     */
+    public void sendVerifyEmail(String toEmail, String clientIp) {
 
-        // 2. redis에 저장할 key & value 설정
-        String key = "verifyEmail:token:" + token;
-        String value = toEmail;
+        // 1. 요청 제한 확인, 짧은 시간 안의 중복 요청이면 종료
+        if (!acquireSend("verifyEmail", toEmail, clientIp)) {
+            return;
+        }
 
-        // 3. redis에 key & value 설정
-        redisTemplate.opsForValue().set(
-                key, value, Duration.ofMinutes(15)
-        );
+        // 2. 사용되지 않은 토큰이 있으면 재사용, 없으면 새로 발급
+        String token = issueToken("verifyEmail:token:", VERIFY_EMAIL_PENDING_PREFIX, toEmail);
 
-        // 4. 이메일 발송
+        // 3. 이메일 발송
         String resetLink = "http://localhost:8080/verify-email?token=" + token;
         sendVerifyEmailText(toEmail, resetLink);
     }
 
+    // 토큰 발급 주소 키 (대소문자만 다른 주소는 같은 주소로 취급)
+    public static String pendingKey(String prefix, String email) {
+        return prefix + email.toLowerCase(Locale.ROOT);
+    }
+
     public void verifyEmail (String token) {
 
         // 1. redis key 설정
@@ -70,27 +85,61 @@ public class MailService {
         String verifiedKey = "verifyEmail:email:" + email;
 
         // 4. Redis에 새로운 키와 값으로 데이터를 저장 -> 회원 가입 로직에서 true인지 판별
-        redisTemplate.opsForValue().set(
-                verifiedKey, "true", Duration.ofMinutes(15)
-        );
+        redisService.set(verifiedKey, "true", MAIL_TOKEN_TTL);
 
-        redisTemplate.delete(key);
+        // 5. 사용한 토큰 삭제 (다음 요청은 새 토큰 발급)
+        redisService.delete(key);
+        if (email != null) {
+            redisService.delete(pendingKey(VERIFY_EMAIL_PENDING_PREFIX, email));
+        }
 
     }
 
+    /**
+     * 발송 가능 여부 확인
+     * 1. IP별 제한 (초과하면 429)
+     * 2. 같은 주소로 RESEND_COOLDOWN 안에 이미 발송했으면 false (연속 요청은 한 번만 발송)
+     * 3. 주소별 제한 (초과하면 429)
+     */
+    private boolean acquireSend(String type, String toEmail, String clientIp) {
+        mailRateLimiter.checkIp(clientIp);
+
+        String normalized = toEmail.toLowerCase(Locale.ROOT);
+        if (!redisService.setIfAbsent("mail:cooldown:" + type + ":" + normalized, "1", RESEND_COOLDOWN)) {
+            return false;
+        }
+
+        mailRateLimiter.checkEmail(normalized);
+        return true;
+    }
+
+    /**
+     * 주소에 발급된 토큰이 아직 유효하면 재사용, 없으면 새로 발급
+     * @return 메일 링크에 넣을 토큰
+     */
+    private String issueToken(String tokenPrefix, String pendingPrefix, String toEmail) {
+        String pendingKey = pendingKey(pendingPrefix, toEmail);
+
+        // 1. 유효한 토큰이 있으면 그대로 사용
+        String token = redisService.get(pendingKey);
+        if (token != null && redisService.get(tokenPrefix + token) != null) {
+            return token;
+        }
+
+        // 2. 새 토큰 발급 (토큰 -> 이메일, 주소 -> 토큰)
+        token = UUID.randomUUID().toString();
+        redisService.set(tokenPrefix + token, toEmail, MAIL_TOKEN_TTL);
+        redisService.set(pendingKey, token, MAIL_TOKEN_TTL);
+        return token;
+    }
+
     private void sendFindAndResetEmailText(String toEmail, String resetLink) {
         String subject = "[스몰스퀘어] 비밀번호 재설정 링크입니다.";
         String content = "아래 링크를 클릭하여 비밀번호를 재설정하세요.\n\n" +
                 resetLink + "\n\n" +
                 "이 링크는 15분간만 유효합니다.";
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(toEmail);
-        message.setSubject(subject);
-        message.setText(content);
-        message.setFrom("smallsquare99@gmail.com");
-
-        mailSender.send(message);
+        enqueue(toEmail, subject, content);
     }
 
     private void sendVerifyEmailText(String toEmail, String resetLink) {
@@ -99,12 +148,11 @@ public class MailService {
                 resetLink + "\n\n" +
                 "이 링크는 15분간만 유효합니다.";
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(toEmail);
-        message.setSubject(subject);
-        message.setText(content);
-        message.setFrom("smallsquare99@gmail.com");
+        enqueue(toEmail, subject, content);
+    }
 
-        mailSender.send(message);
+    // 요청 스레드에서는 outbox에 저장만 하고 반환 (SMTP 발송은 MailOutboxWorker가 처리)
+    private void enqueue(String toEmail, String subject, String content) {
+        mailOutboxRepository.save(MailOutbox.of(toEmail, subject, content));
     }
-}
\ No newline at end of file
+}
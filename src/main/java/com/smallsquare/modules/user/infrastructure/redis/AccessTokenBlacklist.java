@@ -0,0 +1,176 @@
+package com.smallsquare.modules.user.infrastructure.redis;
+
+import com.smallsquare.common.util.BloomFilter;
+import com.smallsquare.modules.user.infrastructure.jwt.TokenHash;
+import com.smallsquare.modules.user.infrastructure.jwt.VerifiedToken;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 요청 경로에서 사용하는 Access Token 블랙리스트 검사
+ * 1. 로컬 Bloom Filter에 없으면 -> 폐기되지 않은 토큰 (Redis 조회 없음)
+ * 2. Bloom Filter에 있을 수도 있으면 -> Redis에서 실제 블랙리스트 여부 확인
+ * Bloom Filter는 Redis Pub/Sub으로 다른 서버의 로그아웃을 반영하고,
+ * 메시지 유실과 만료된 항목 정리를 위해 주기적으로 Redis 키를 스캔해서 다시 만든다.
+ */
+@Slf4j
+@Component
+public class AccessTokenBlacklist implements MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    // 토큰 추가와 필터 교체가 엇갈려서 새 필터에 토큰이 빠지지 않도록 함께 잠금
+    private final ReentrantLock swapLock = new ReentrantLock();
+
+    // 최초 구성 전에는 모든 요청을 Redis로 확인
+    private volatile boolean ready = false;
+
+    // 기동 시 구성(warmUp, 비동기)과 주기 재구성이 겹치지 않도록 함
+    // 겹치면 먼저 끝난 쪽이 building을 비워서, 나중 쪽 필터에 그 사이 폐기된 토큰이 빠짐
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    public AccessTokenBlacklist(StringRedisTemplate redisTemplate,
+                                RedisService redisService,
+                                RedisMessageListenerContainer listenerContainer,
+                                @Value("${JWT_BLACKLIST_BLOOM_CAPACITY:100000}") long expectedInsertions,
+                                @Value("${JWT_BLACKLIST_BLOOM_FPP:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisService.ACCESS_BLACKLIST_CHANNEL));
+    }
+
+    /**
+     * Access Token이 로그아웃(블랙리스트) 처리되었는지 확인
+     * 필터 체인이 동기 서블릿이라 Bloom Filter에 걸린 토큰(폐기된 토큰 + 오탐)만 Redis 응답을 기다림 (명령 타임아웃까지)
+     * @param verifiedToken
+     * @param accessToken
+     * @return 블랙리스트 여부
+     */
+    public boolean isRevoked(VerifiedToken verifiedToken, String accessToken) {
+        if (ready && !current.mightContain(verifiedToken.getRevocationId())) {
+            return false;
+        }
+        return redisService.isAccessTokenBlacklisted(verifiedToken, accessToken);
+    }
+
+    // 다른 서버(또는 자기 자신)가 발행한 블랙리스트 토큰 id 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 블랙리스트 키 전체 SCAN이 기동 완료 이벤트를 붙잡지 않도록 비동기 실행 (구성 전에는 ready=false라 Redis로 확인)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Redis의 블랙리스트 키로 Bloom Filter를 새로 만들어 교체 (만료된 토큰 정리 + Pub/Sub 유실 보정)
+     * 재구성 중에 들어오는 토큰은 기존/신규 필터 모두에 추가
+     * 스캔 시작 전에 building을 먼저 걸어두므로, 스캔 중 추가된 키(SCAN이 놓칠 수 있음)는 Pub/Sub으로 신규 필터에 반영됨
+     * 이미 재구성 중이면 건너뜀 (한 번에 하나만 실행)
+     */
+    @Scheduled(initialDelayString = "${JWT_BLACKLIST_REBUILD_INTERVAL_MS:60000}",
+            fixedDelayString = "${JWT_BLACKLIST_REBUILD_INTERVAL_MS:60000}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        BloomFilter fresh = new BloomFilter(expectedInsertions, falsePositiveRate);
+        swapLock.lock();
+        try {
+            building = fresh;
+        } finally {
+            swapLock.unlock();
+        }
+
+        try {
+            // 1. jti 해시 키는 그대로 revocationId
+            scanKeys(RedisService.ACCESS_BLACKLIST_PREFIX, fresh, revocationId -> revocationId);
+
+            // 2. 이전 형식 키(토큰 원문)는 토큰 해시로 변환 (jti가 없는 토큰의 revocationId)
+            scanKeys(RedisService.LEGACY_ACCESS_BLACKLIST_PREFIX, fresh, TokenHash::of);
+
+            swap(fresh);
+        } catch (Exception e) {
+            // 실패하면 기존 필터 유지 (다음 주기에 재시도)
+            log.warn("Access Token 블랙리스트 필터 재구성 실패", e);
+            swap(null);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    // fresh가 null이면 재구성 취소 (기존 필터 유지)
+    private void swap(BloomFilter fresh) {
+        swapLock.lock();
+        try {
+            if (fresh != null) {
+                current = fresh;
+                ready = true;
+            }
+            building = null;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private void add(String tokenId) {
+        swapLock.lock();
+        try {
+            current.put(tokenId);
+            if (building != null) {
+                building.put(tokenId);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private void scanKeys(String prefix, BloomFilter filter, Function<String, String> toRevocationId) {
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(prefix + "*")
+                .count(1000)
+                .build())) {
+            while (cursor.hasNext()) {
+                filter.put(toRevocationId.apply(cursor.next().substring(prefix.length())));
+            }
+        }
+    }
+}
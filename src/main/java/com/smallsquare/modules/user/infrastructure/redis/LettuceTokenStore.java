@@ -0,0 +1,176 @@
+package com.smallsquare.modules.user.infrastructure.redis;
+
+import com.smallsquare.modules.user.infrastructure.jwt.VerifiedToken;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PreDestroy;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.smallsquare.modules.user.infrastructure.redis.RedisService.ACCESS_BLACKLIST_CHANNEL;
+import static com.smallsquare.modules.user.infrastructure.redis.RedisService.ACCESS_BLACKLIST_PREFIX;
+import static com.smallsquare.modules.user.infrastructure.redis.RedisService.LEGACY_ACCESS_BLACKLIST_PREFIX;
+import static com.smallsquare.modules.user.infrastructure.redis.RedisService.LEGACY_REFRESH_BLACKLIST_PREFIX;
+import static com.smallsquare.modules.user.infrastructure.redis.RedisService.REFRESH_BLACKLIST_PREFIX;
+
+/**
+ * Lettuce async API 기반 TokenStore
+ * 1. RedisConnectionFactory의 클라이언트(타임아웃, 재연결 설정 공유)로 String 코덱 연결을 하나 만들어 모든 요청이 공유
+ * 2. 명령은 응답을 기다리지 않고 연속 전송되고, 응답은 Netty 이벤트 루프에서 CompletableFuture로 전달
+ * 3. 명령 타임아웃(REDIS_COMMAND_TIMEOUT_MS)을 넘기면 future가 예외로 완료되므로 무한정 대기하지 않음
+ */
+@Component
+public class LettuceTokenStore implements TokenStore {
+
+    // KEYS[1]: 블랙리스트 키, KEYS[2]: 이전 형식 키(jti 없는 토큰만) / ARGV[1]: 값, ARGV[2]: TTL(ms)
+    private static final RedisScript<Long> ROTATE_REFRESH_TOKEN_SCRIPT = new DefaultRedisScript<>(
+            "if KEYS[2] and redis.call('EXISTS', KEYS[2]) == 1 then return 0 end " +
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 end " +
+            "return 0",
+            Long.class
+    );
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final ReentrantLock connectLock = new ReentrantLock();
+
+    private volatile StatefulRedisConnection<String, String> connection;
+
+    public LettuceTokenStore(LettuceConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isAccessTokenRevoked(VerifiedToken verifiedToken, String accessToken) {
+        return exists(keysOf(ACCESS_BLACKLIST_PREFIX, LEGACY_ACCESS_BLACKLIST_PREFIX, verifiedToken, accessToken));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> rotateRefreshToken(VerifiedToken verifiedToken, String refreshToken) {
+        String[] keys = keysOf(REFRESH_BLACKLIST_PREFIX, LEGACY_REFRESH_BLACKLIST_PREFIX, verifiedToken, refreshToken);
+        String ttlMillis = String.valueOf(Math.max(1, verifiedToken.getRemainingTtl().toMillis()));
+
+        return evalRotateScript(keys, "refresh", ttlMillis)
+                .thenApply(result -> result != null && result == 1L);
+    }
+
+    /**
+     * 세션마다 SET PX + PUBLISH를 응답을 기다리지 않고 모두 보낸 뒤 한꺼번에 완료를 기다림
+     * 남은 유효기간은 한 번만 계산해서 0 이하(이미 만료)면 건너뜀 (PSETEX는 0ms를 허용하지 않음)
+     */
+    @Override
+    public CompletableFuture<Void> revokeSessions(List<SessionRevocation> revocations) {
+        if (revocations.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        RedisAsyncCommands<String, String> commands = commands();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        for (SessionRevocation revocation : revocations) {
+            VerifiedToken accessToken = revocation.getAccessToken();
+            long accessTtlMillis = remainingMillis(accessToken);
+            if (accessTtlMillis > 0) {
+                futures.add(commands.psetex(
+                        ACCESS_BLACKLIST_PREFIX + accessToken.getRevocationId(),
+                        accessTtlMillis,
+                        revocation.getReason()
+                ).toCompletableFuture());
+                // 각 서버의 로컬 Bloom Filter에 반영되도록 토큰 id 발행
+                futures.add(commands.publish(ACCESS_BLACKLIST_CHANNEL, accessToken.getRevocationId()).toCompletableFuture());
+            }
+
+            VerifiedToken refreshToken = revocation.getRefreshToken();
+            long refreshTtlMillis = remainingMillis(refreshToken);
+            if (refreshTtlMillis > 0) {
+                futures.add(commands.psetex(
+                        REFRESH_BLACKLIST_PREFIX + refreshToken.getRevocationId(),
+                        refreshTtlMillis,
+                        revocation.getReason()
+                ).toCompletableFuture());
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    @PreDestroy
+    public void close() {
+        StatefulRedisConnection<String, String> current = connection;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    // EXISTS 한 번으로 여러 키 확인
+    private CompletableFuture<Boolean> exists(String[] keys) {
+        return commands().exists(keys).toCompletableFuture()
+                .thenApply(count -> count != null && count > 0);
+    }
+
+    /**
+     * 스크립트 본문은 처음 한 번만 올리고 이후에는 EVALSHA로 실행
+     * Redis 재시작 등으로 스크립트 캐시가 비었으면(NOSCRIPT) 다시 올린 뒤 실행
+     */
+    private CompletableFuture<Long> evalRotateScript(String[] keys, String... args) {
+        RedisAsyncCommands<String, String> commands = commands();
+
+        CompletableFuture<Long> result = commands.<Long>evalsha(
+                ROTATE_REFRESH_TOKEN_SCRIPT.getSha1(), ScriptOutputType.INTEGER, keys, args).toCompletableFuture();
+        return result.exceptionallyCompose(e -> isNoScript(e)
+                ? commands.<Long>eval(ROTATE_REFRESH_TOKEN_SCRIPT.getScriptAsString(), ScriptOutputType.INTEGER, keys, args)
+                        .toCompletableFuture()
+                : CompletableFuture.failedFuture(e));
+    }
+
+    // 토큰이 없으면 0
+    private static long remainingMillis(VerifiedToken token) {
+        return token == null ? 0 : token.getRemainingTtl().toMillis();
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+        return cause.getMessage() != null && cause.getMessage().startsWith("NOSCRIPT");
+    }
+
+    private static String[] keysOf(String prefix, String legacyPrefix, VerifiedToken verifiedToken, String token) {
+        return verifiedToken.isLegacy()
+                ? new String[]{prefix + verifiedToken.getRevocationId(), legacyPrefix + token}
+                : new String[]{prefix + verifiedToken.getRevocationId()};
+    }
+
+    // 처음 사용할 때 연결 (Redis가 늦게 뜨더라도 애플리케이션 기동은 막지 않도록), 이후 끊기면 Lettuce가 자동 재연결
+    protected RedisAsyncCommands<String, String> commands() {
+        StatefulRedisConnection<String, String> current = connection;
+        if (current == null) {
+            connectLock.lock();
+            try {
+                if (connection == null) {
+                    connection = redisClient().connect(StringCodec.UTF8);
+                }
+                current = connection;
+            } finally {
+                connectLock.unlock();
+            }
+        }
+        return current.async();
+    }
+
+    private RedisClient redisClient() {
+        AbstractRedisClient client = connectionFactory.getNativeClient();
+        if (!(client instanceof RedisClient redisClient)) {
+            throw new IllegalStateException("TokenStore는 단일 Redis(standalone) 연결만 지원합니다.");
+        }
+        return redisClient;
+    }
+}
@@ -1,67 +1,74 @@
 package com.smallsquare.modules.user.infrastructure.redis;
 
-import com.smallsquare.modules.user.exception.exception.UserException;
+import com.smallsquare.modules.user.infrastructure.jwt.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-
-import static com.smallsquare.modules.user.exception.errorCode.UserErrorCode.ACCESS_TOKEN_EXPIRED;
-import static com.smallsquare.modules.user.exception.errorCode.UserErrorCode.REFRESH_TOKEN_EXPIRED;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
 
     private final StringRedisTemplate redisTemplate;
+    private final TokenStore tokenStore;
 
-    /**
-     * 로그아웃 시 토큰을 Redis에 BlackList로 저장
-     * @param accessToken
-     * @param accessTokenExpireTime
-     * @param refreshToken
-     * @param refreshTokenExpireTime
-     */
+    // 블랙리스트에 추가된 Access Token을 다른 서버에 알리는 채널
+    public static final String ACCESS_BLACKLIST_CHANNEL = "channel:blacklist:access";
 
-    public void saveBlacklist(String accessToken, long accessTokenExpireTime,
-                              String refreshToken, long refreshTokenExpireTime) {
+    // 블랙리스트 키: prefix + revocationId (jti 해시, 고정 길이)
+    public static final String ACCESS_BLACKLIST_PREFIX = "blacklist:a:";
+    public static final String REFRESH_BLACKLIST_PREFIX = "blacklist:r:";
 
-        redisTemplate.opsForValue().set(
-                "blacklist:access:" + accessToken,
-                "logout",
-                Duration.ofMillis(accessTokenExpireTime)
-        );
+    // 이전 형식의 블랙리스트 키: prefix + 토큰 원문
+    // jti 도입 이전에 저장된 키가 만료될 때까지(최대 Refresh Token 유효기간)만 함께 확인
+    public static final String LEGACY_ACCESS_BLACKLIST_PREFIX = "blacklist:access:";
+    public static final String LEGACY_REFRESH_BLACKLIST_PREFIX = "blacklist:refresh:";
 
-        redisTemplate.opsForValue().set(
-                "blacklist:refresh:" + refreshToken,
-                "logout",
-                Duration.ofMillis(refreshTokenExpireTime)
-        );
+    /**
+     * 여러 세션을 블랙리스트에 저장 (명령을 연속 전송하므로 1 round trip)
+     * 세션마다 Access/Refresh 키 저장 + Bloom Filter 동기화용 메시지 발행
+     * @param revocations
+     */
+    public void revokeSessions(List<SessionRevocation> revocations) {
+        await(tokenStore.revokeSessions(revocations));
     }
 
-    public void saveRefreshBlackList(String refreshToken, long refreshTokenExpireTime) {
-        redisTemplate.opsForValue().set(
-                "blacklist:refresh:" + refreshToken,
-                "refresh",
-                Duration.ofMinutes(refreshTokenExpireTime)
-        );
+    /**
+     * Refresh Token 재발급(rotation) 시 블랙리스트 확인 + 폐기를 한 번에 처리
+     * SET NX로 처음 사용된 토큰만 블랙리스트에 올리므로, 같은 토큰으로 동시에 요청이 와도 하나만 성공
+     * @param verifiedToken
+     * @param refreshToken
+     * @return true: 이번 요청에서 폐기 성공 (재발급 가능) / false: 이미 폐기된 토큰 (재사용)
+     */
+    public boolean rotateRefreshToken(VerifiedToken verifiedToken, String refreshToken) {
+        return await(tokenStore.rotateRefreshToken(verifiedToken, refreshToken));
     }
 
-    public void validateAccessToken(String accessToken) {
-        if (redisTemplate.hasKey("blacklist:access:" + accessToken)) {
-            throw new UserException(ACCESS_TOKEN_EXPIRED);
-        }
+    public boolean isAccessTokenBlacklisted(VerifiedToken verifiedToken, String accessToken) {
+        return await(tokenStore.isAccessTokenRevoked(verifiedToken, accessToken));
     }
 
-    public void validateRefreshToken(String refreshToken) {
-        if (redisTemplate.hasKey("blacklist:refresh:" + refreshToken)) {
-            throw new UserException(REFRESH_TOKEN_EXPIRED);
-        }
+    /**
+     * TTL과 함께 값 저장
+     * @param key
+     * @param value
+     * @param ttl 유효기간 (단위 혼동을 막기 위해 Duration으로만 받음)
+     */
+    public void set(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
     }
 
-    public void set(String key, String value, long expirationSeconds) {
-        redisTemplate.opsForValue().set(key, value, Duration.ofMinutes(expirationSeconds));
+    /**
+     * 키가 없을 때만 TTL과 함께 값 저장
+     * @return 저장했으면 true, 이미 있으면 false
+     */
+    public boolean setIfAbsent(String key, String value, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
     }
 
     // 토큰을 기반으로 Redis에서 값(email) 조회
@@ -74,4 +81,15 @@ public class RedisService {
         redisTemplate.delete(key);
     }
 
-}
\ No newline at end of file
+    // 동기 호출자용 (명령 타임아웃이 있으므로 무한정 대기하지 않음, CompletionException은 원래 예외로 풀어서 던짐)
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.smallsquare.modules.user.infrastructure.redis;
+
+import com.smallsquare.modules.user.infrastructure.jwt.VerifiedToken;
+import lombok.Getter;
+
+/**
+ * 블랙리스트에 올릴 한 세션(Access Token + Refresh Token) 정보
+ * 로그아웃, 전체 기기 로그아웃, 관리자 정지 등에서 여러 개를 묶어 한 번에 폐기할 때 사용
+ */
+@Getter
+public class SessionRevocation {
+
+    private final VerifiedToken accessToken;  // null 가능
+    private final VerifiedToken refreshToken; // null 가능
+    private final String reason;
+
+    private SessionRevocation(VerifiedToken accessToken, VerifiedToken refreshToken, String reason) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.reason = reason;
+    }
+
+    public static SessionRevocation of(VerifiedToken accessToken, VerifiedToken refreshToken, String reason) {
+        return new SessionRevocation(accessToken, refreshToken, reason);
+    }
+
+    public static SessionRevocation logout(VerifiedToken accessToken, VerifiedToken refreshToken) {
+        return new SessionRevocation(accessToken, refreshToken, "logout");
+    }
+}
@@ -0,0 +1,27 @@
+package com.smallsquare.modules.user.infrastructure.redis;
+
+import com.smallsquare.modules.user.infrastructure.jwt.VerifiedToken;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 토큰 블랙리스트 / Refresh Token rotation 저장소 (non-blocking)
+ * 모든 메서드는 명령을 보내자마자 반환하고, 결과는 CompletableFuture로 받음
+ * 여러 메서드를 연속으로 호출한 뒤 결과를 합치면(thenCombine, allOf) 명령들이 응답을 기다리지 않고 연속 전송되므로
+ * Redis 왕복 한 번 정도의 시간에 처리됨
+ */
+public interface TokenStore {
+
+    // Access Token 블랙리스트 여부 (jti가 없는 이전 토큰은 이전 형식 키도 확인)
+    CompletableFuture<Boolean> isAccessTokenRevoked(VerifiedToken verifiedToken, String accessToken);
+
+    /**
+     * Refresh Token 블랙리스트 확인 + 폐기 (원자적)
+     * @return true: 이번 요청에서 폐기 성공 (재발급 가능) / false: 이미 폐기된 토큰 (재사용)
+     */
+    CompletableFuture<Boolean> rotateRefreshToken(VerifiedToken verifiedToken, String refreshToken);
+
+    // 여러 세션의 Access/Refresh Token을 블랙리스트에 저장 + Bloom Filter 동기화 메시지 발행
+    CompletableFuture<Void> revokeSessions(List<SessionRevocation> revocations);
+}
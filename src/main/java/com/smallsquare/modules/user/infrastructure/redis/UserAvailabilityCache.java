@@ -0,0 +1,148 @@
+package com.smallsquare.modules.user.infrastructure.redis;
+
+import com.smallsquare.modules.user.domain.enums.UniqueField;
+import com.smallsquare.modules.user.domain.repository.UserQueryRepository;
+import com.smallsquare.modules.user.domain.vo.UserIdentity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 이미 사용 중인 아이디 / 이메일 / 닉네임을 Redis Set으로 관리 (회원가입 폼의 실시간 중복 확인용)
+ * 1. 서버 시작 시 User 테이블에서 전체 값을 읽어 Set을 채움 (완료 표시 키 저장)
+ * 2. 회원가입 / 회원정보 수정이 커밋된 뒤 Set에 반영
+ * 3. 완료 표시 키가 없으면(초기화 전, Redis 데이터 유실) null을 반환해서 호출 측이 DB로 확인
+ * 탈퇴한 회원도 DB의 유니크 제약조건에 값이 남아 있으므로 Set에서 제거하지 않음
+ * 실제 가입/수정 시에는 DB 중복 검사와 유니크 제약조건이 최종 판단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserAvailabilityCache {
+
+    private static final String KEY_PREFIX = "user:taken:";
+    private static final String READY_KEY = KEY_PREFIX + "ready";
+    private static final int WARM_UP_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserQueryRepository userQueryRepository;
+
+    /**
+     * 서버 시작 시 User 테이블을 id 순서로 나눠 읽어서 Set 채우기
+     * 여러 서버가 동시에 실행해도 SADD라서 결과는 같음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            Long lastUserId = null;
+            while (true) {
+                List<UserIdentity> identities = userQueryRepository.findUserIdentitiesAfter(lastUserId, WARM_UP_BATCH_SIZE);
+                if (identities.isEmpty()) {
+                    break;
+                }
+                addAll(identities);
+                lastUserId = identities.get(identities.size() - 1).getUserId();
+            }
+            redisTemplate.opsForValue().set(READY_KEY, "true");
+        } catch (Exception e) {
+            // 실패해도 중복 확인은 DB로 동작
+            log.warn("아이디/닉네임 중복 확인 캐시 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 한 번의 파이프라인으로 사용 중인 값인지 확인
+     * @param values 확인할 컬럼과 값
+     * @return 사용 중인 컬럼 목록, 캐시가 준비되지 않았으면 null
+     */
+    public EnumSet<UniqueField> findTaken(Map<UniqueField, String> values) {
+        List<UniqueField> fields = new ArrayList<>(values.keySet());
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.exists(READY_KEY);
+            for (UniqueField field : fields) {
+                stringConnection.sIsMember(keyOf(field), normalize(values.get(field)));
+            }
+            return null;
+        });
+
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            return null;
+        }
+
+        EnumSet<UniqueField> taken = EnumSet.noneOf(UniqueField.class);
+        for (int i = 0; i < fields.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i + 1))) {
+                taken.add(fields.get(i));
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 사용 중인 값 변경 (롤백되면 반영하지 않음)
+     * @param released 더 이상 사용하지 않는 값 (회원정보 수정 전 값)
+     * @param reserved 새로 사용하는 값
+     */
+    public void replaceAfterCommit(Map<UniqueField, String> released, Map<UniqueField, String> reserved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            replace(released, reserved);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                replace(released, reserved);
+            }
+        });
+    }
+
+    private void replace(Map<UniqueField, String> released, Map<UniqueField, String> reserved) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                released.forEach((field, value) -> stringConnection.sRem(keyOf(field), normalize(value)));
+                reserved.forEach((field, value) -> stringConnection.sAdd(keyOf(field), normalize(value)));
+                return null;
+            });
+        } catch (Exception e) {
+            // 이미 커밋된 요청은 실패시키지 않음 (캐시가 틀려도 가입 시 DB에서 다시 검사)
+            log.warn("아이디/닉네임 중복 확인 캐시 갱신 실패", e);
+        }
+    }
+
+    private void addAll(List<UserIdentity> identities) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (UserIdentity identity : identities) {
+                stringConnection.sAdd(keyOf(UniqueField.USERNAME), normalize(identity.getUsername()));
+                stringConnection.sAdd(keyOf(UniqueField.EMAIL), normalize(identity.getEmail()));
+                stringConnection.sAdd(keyOf(UniqueField.NICKNAME), normalize(identity.getNickname()));
+            }
+            return null;
+        });
+    }
+
+    private static String keyOf(UniqueField field) {
+        return KEY_PREFIX + field.name().toLowerCase(Locale.ROOT);
+    }
+
+    // MySQL 기본 collation은 대소문자를 구분하지 않으므로 소문자로 통일
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,10 @@
+package com.smallsquare.modules.user.infrastructure.repository;
+
+import com.smallsquare.modules.user.domain.entity.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaMailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+}
@@ -0,0 +1,112 @@
+package com.smallsquare.modules.user.infrastructure.repository;
+
+import com.smallsquare.modules.user.domain.entity.MailOutbox;
+import com.smallsquare.modules.user.domain.repository.MailOutboxRepository;
+import com.smallsquare.modules.user.domain.vo.ClaimedMail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MailOutboxRepositoryImpl implements MailOutboxRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    // 여러 서버의 워커가 동시에 조회해도 서로 다른 행을 가져가도록 SKIP LOCKED
+    private static final String CLAIM_SQL = """
+            SELECT mail_outbox_id, to_email, subject, body, attempts
+            FROM mail_outbox
+            WHERE status IN ('PENDING', 'SENDING')
+              AND next_attempt_at <= ?
+            ORDER BY next_attempt_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private final JpaMailOutboxRepository jpaMailOutboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public MailOutbox save(MailOutbox mailOutbox) {
+        return jpaMailOutboxRepository.save(mailOutbox);
+    }
+
+    /**
+     * 1. SELECT ... FOR UPDATE SKIP LOCKED로 행 락을 잡고 조회
+     * 2. 같은 트랜잭션에서 SENDING + lease 만료 시각으로 변경 후 커밋 (SMTP 발송 중에는 락을 잡고 있지 않음)
+     */
+    @Override
+    @Transactional
+    public List<ClaimedMail> claim(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ClaimedMail> mails = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new ClaimedMail(
+                rs.getLong("mail_outbox_id"),
+                rs.getString("to_email"),
+                rs.getString("subject"),
+                rs.getString("body"),
+                rs.getInt("attempts") + 1
+        ), now, limit);
+
+        if (mails.isEmpty()) {
+            return mails;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", mails.stream().map(ClaimedMail::getId).toList())
+                .addValue("leaseUntil", now.plus(lease));
+        namedParameterJdbcTemplate.update(
+                "UPDATE mail_outbox SET status = 'SENDING', attempts = attempts + 1, next_attempt_at = :leaseUntil " +
+                "WHERE mail_outbox_id IN (:ids)", params);
+        return mails;
+    }
+
+    @Override
+    public void markSent(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("sentAt", LocalDateTime.now());
+        namedParameterJdbcTemplate.update(
+                "UPDATE mail_outbox SET status = 'SENT', sent_at = :sentAt, last_error = NULL " +
+                "WHERE mail_outbox_id IN (:ids)", params);
+    }
+
+    @Override
+    public void markRetry(Long id, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update(
+                "UPDATE mail_outbox SET status = 'PENDING', next_attempt_at = ?, last_error = ? WHERE mail_outbox_id = ?",
+                nextAttemptAt, truncate(error), id);
+    }
+
+    @Override
+    public void markFailed(Long id, String error) {
+        jdbcTemplate.update(
+                "UPDATE mail_outbox SET status = 'FAILED', last_error = ? WHERE mail_outbox_id = ?",
+                truncate(error), id);
+    }
+
+    @Override
+    public int deleteSentBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM mail_outbox WHERE status = 'SENT' AND sent_at < ? LIMIT ?", before, limit);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,14 +1,23 @@
 package com.smallsquare.modules.user.infrastructure.repository;
 
 import com.querydsl.core.QueryFactory;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.smallsquare.modules.user.domain.entity.QUser;
+import com.smallsquare.modules.user.domain.enums.UniqueField;
 import com.smallsquare.modules.user.domain.repository.UserQueryRepository;
+import com.smallsquare.modules.user.domain.vo.Email;
+import com.smallsquare.modules.user.domain.vo.Nickname;
+import com.smallsquare.modules.user.domain.vo.UserIdentity;
+import com.smallsquare.modules.user.domain.vo.Username;
 import com.smallsquare.modules.user.web.dto.response.UserInfoResDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -34,4 +43,69 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
                         .fetchOne() // 결과를 1개만 조회
         );
     }
+
+    @Override
+    public EnumSet<UniqueField> findDuplicatedFields(Username username, Email email, Nickname nickname, Long excludeUserId) {
+        QUser user = QUser.user;
+
+        // 1. 세 컬럼 중 하나라도 같은 회원 조회 (각 컬럼이 유니크라서 최대 3건)
+        BooleanBuilder matches = new BooleanBuilder();
+        if (username != null) {
+            matches.or(user.username.eq(username));
+        }
+        if (email != null) {
+            matches.or(user.email.eq(email));
+        }
+        if (nickname != null) {
+            matches.or(user.nickname.eq(nickname));
+        }
+        if (!matches.hasValue()) {
+            return EnumSet.noneOf(UniqueField.class);
+        }
+
+        BooleanBuilder condition = new BooleanBuilder(matches);
+        if (excludeUserId != null) {
+            condition.and(user.id.ne(excludeUserId));
+        }
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(user.username, user.email, user.nickname)
+                .from(user)
+                .where(condition)
+                .limit(3)
+                .fetch();
+
+        // 2. 조회된 회원마다 어떤 컬럼이 겹치는지 확인
+        EnumSet<UniqueField> duplicated = EnumSet.noneOf(UniqueField.class);
+        for (Tuple row : rows) {
+            if (username != null && username.equals(row.get(user.username))) {
+                duplicated.add(UniqueField.USERNAME);
+            }
+            if (email != null && email.equals(row.get(user.email))) {
+                duplicated.add(UniqueField.EMAIL);
+            }
+            if (nickname != null && nickname.equals(row.get(user.nickname))) {
+                duplicated.add(UniqueField.NICKNAME);
+            }
+        }
+        return duplicated;
+    }
+
+    @Override
+    public List<UserIdentity> findUserIdentitiesAfter(Long lastUserId, int size) {
+        QUser user = QUser.user;
+
+        return jpaQueryFactory
+                .select(Projections.constructor(UserIdentity.class,
+                        user.id,
+                        user.username.username,
+                        user.email.email,
+                        user.nickname.nickname
+                ))
+                .from(user)
+                .where(lastUserId == null ? null : user.id.gt(lastUserId))
+                .orderBy(user.id.asc())
+                .limit(size)
+                .fetch();
+    }
 }
@@ -1,11 +1,15 @@
 package com.smallsquare.modules.user.infrastructure.repository;
 
 import com.smallsquare.modules.user.domain.entity.User;
+import com.smallsquare.modules.user.domain.enums.UniqueField;
 import com.smallsquare.modules.user.domain.repository.UserRepository;
 import com.smallsquare.modules.user.domain.vo.Email;
 import com.smallsquare.modules.user.domain.vo.Nickname;
 import com.smallsquare.modules.user.domain.vo.Username;
+import com.smallsquare.modules.user.exception.exception.UserException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -41,13 +45,50 @@ public class UserRepositoryImpl implements UserRepository {
         return jpaUserRepository.findById(userId);
     }
 
+    /**
+     * 저장 (IDENTITY 전략이라 insert가 바로 실행됨)
+     * 동시에 같은 값으로 가입해서 유니크 제약조건에 걸리면 해당 컬럼의 중복 에러로 변환
+     */
     @Override
     public User save(User user) {
-        return jpaUserRepository.save(user);
+        try {
+            return jpaUserRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            jpaUserRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e);
+        }
     }
 
     @Override
     public Optional<User> findByEmail(Email email) {
         return jpaUserRepository.findByEmail(email);
     }
+
+    // 유니크 제약조건 이름으로 어떤 컬럼이 중복됐는지 찾기 (알 수 없는 위반이면 그대로 던짐)
+    private RuntimeException translateDuplicate(DataIntegrityViolationException e) {
+        Throwable cause = e;
+        while (cause != null) {
+            Optional<UniqueField> field = UniqueField.fromConstraintMessage(constraintMessageOf(cause));
+            if (field.isPresent()) {
+                return new UserException(field.get().getErrorCode());
+            }
+            cause = cause.getCause();
+        }
+        return e;
+    }
+
+    private String constraintMessageOf(Throwable throwable) {
+        if (throwable instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            return violation.getConstraintName();
+        }
+        return throwable.getMessage();
+    }
 }
@@ -1,8 +1,10 @@
 package com.smallsquare.modules.user.web.controller;
 
+import com.smallsquare.infrastructure.ratelimit.ClientIpResolver;
 import com.smallsquare.modules.user.infrastructure.mail.MailService;
 import com.smallsquare.modules.user.web.dto.request.MailReqDto;
 import com.smallsquare.modules.user.web.dto.request.UserVerifyEmailReqDto;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,26 +17,27 @@ import org.springframework.web.bind.annotation.*;
 public class MailController {
 
     private final MailService mailService;
+    private final ClientIpResolver clientIpResolver;
 
     /**
-     * 비밀번호 찾기 이메일 발송
+     * 비밀번호 찾기 이메일 발송 (1분 안의 같은 요청은 한 번만 발송, IP/주소별 요청 제한)
      * @param reqDto
-     * @return
+     * @return 200 Success / 429 Too Many Requests (Retry-After)
      */
     @PostMapping("/find/password")
-    public ResponseEntity<Void> sendPasswordMail(@Valid @RequestBody MailReqDto reqDto) {
-        mailService.sendFindAndResetPassword(reqDto.getEmail());
+    public ResponseEntity<Void> sendPasswordMail(@Valid @RequestBody MailReqDto reqDto, HttpServletRequest request) {
+        mailService.sendFindAndResetPassword(reqDto.getEmail(), clientIpResolver.resolve(request));
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
     /**
-     * 비밀번호 검증 용 이메일 발송(회원가입 시)
+     * 비밀번호 검증 용 이메일 발송(회원가입 시) (1분 안의 같은 요청은 한 번만 발송, IP/주소별 요청 제한)
      * @param reqDto
-     * @return
+     * @return 200 Success / 429 Too Many Requests (Retry-After)
      */
     @PostMapping("/sendVerifyEmail")
-    public ResponseEntity<Void> sendVerifyEmail(@Valid @RequestBody MailReqDto reqDto) {
-        mailService.sendVerifyEmail(reqDto.getEmail());
+    public ResponseEntity<Void> sendVerifyEmail(@Valid @RequestBody MailReqDto reqDto, HttpServletRequest request) {
+        mailService.sendVerifyEmail(reqDto.getEmail(), clientIpResolver.resolve(request));
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
@@ -3,6 +3,7 @@ package com.smallsquare.modules.user.web.controller;
 import com.smallsquare.modules.user.application.service.UserService;
 import com.smallsquare.modules.user.infrastructure.auth.model.CustomUserDetails;
 import com.smallsquare.modules.user.web.dto.request.*;
+import com.smallsquare.modules.user.web.dto.response.UserAvailabilityResDto;
 import com.smallsquare.modules.user.web.dto.response.UserInfoResDto;
 import com.smallsquare.modules.user.web.dto.response.UserLoginResDto;
 import com.smallsquare.modules.user.web.dto.response.UserUpdateResDto;
@@ -13,6 +14,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/users")
@@ -31,6 +34,19 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    /**
+     * 아이디 / 닉네임 / 이메일 사용 가능 여부 확인 (회원가입 폼 실시간 확인용)
+     * @param username, nickname, email : 확인할 값만 전달
+     * @return 200 Success / resDto : usernameAvailable, nicknameAvailable, emailAvailable
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<UserAvailabilityResDto> checkAvailability(@RequestParam(required = false) String username,
+                                                                    @RequestParam(required = false) String nickname,
+                                                                    @RequestParam(required = false) String email) {
+        UserAvailabilityResDto resDto = userService.checkAvailability(username, nickname, email);
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
+
     /**
      * 로그인
      * @param reqDto : username, password
@@ -44,13 +60,14 @@ public class UserController {
 
     /**
      * 로그아웃
+     * Redis 저장을 기다리는 동안 요청 스레드를 반환하고, 완료되면 응답 (비동기 처리)
      * @param reqDto : accessToken, refreshToken
      * @return 200 Success
      */
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@RequestBody UserLogoutReqDto reqDto) {
-        userService.logout(reqDto);
-        return ResponseEntity.status(HttpStatus.OK).build();
+    public CompletableFuture<ResponseEntity<Void>> logout(@RequestBody UserLogoutReqDto reqDto) {
+        return userService.logout(reqDto)
+                .thenApply(done -> ResponseEntity.status(HttpStatus.OK).build());
     }
 
     /**
@@ -0,0 +1,19 @@
+package com.smallsquare.modules.user.web.dto.response;
+
+import lombok.*;
+
+/**
+ * 아이디 / 닉네임 / 이메일 사용 가능 여부
+ * 요청하지 않은 항목은 null
+ */
+@Getter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserAvailabilityResDto {
+
+    private Boolean usernameAvailable;
+
+    private Boolean nicknameAvailable;
+
+    private Boolean emailAvailable;
+}
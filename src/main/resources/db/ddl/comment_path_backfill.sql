@@ -0,0 +1,24 @@
+-- 댓글 materialized path 컬럼 추가 및 기존 댓글 백필 (user-016)
+-- 운영은 ddl-auto: none 이므로 배포 전에 수동으로 한 번 실행
+-- path 형식은 CommentPath.segment()와 같아야 함 : comment_id를 소문자 36진수 8자리(앞을 0으로 채움)로 이어 붙임
+-- 백필 전에 배포되어도 애플리케이션이 답글 작성 시 부모 쪽 path를 채우고, path가 없는 댓글의 서브트리 조회는 409로 응답
+
+ALTER TABLE comment
+    ADD COLUMN path varchar(760) CHARACTER SET ascii COLLATE ascii_bin NULL,
+    ADD COLUMN depth int NULL,
+    ADD INDEX idx_comment_post_path (post_id, path);
+
+-- 최상위 댓글부터 parent_id를 따라 내려가며 path 계산 (이미 채워진 댓글은 건너뜀)
+WITH RECURSIVE comment_tree (comment_id, path, depth) AS (
+    SELECT comment_id, CAST(LPAD(LOWER(CONV(comment_id, 10, 36)), 8, '0') AS CHAR(760) CHARACTER SET ascii), 0
+    FROM comment
+    WHERE parent_id IS NULL
+    UNION ALL
+    SELECT child.comment_id, CONCAT(tree.path, LPAD(LOWER(CONV(child.comment_id, 10, 36)), 8, '0')), tree.depth + 1
+    FROM comment child
+    JOIN comment_tree tree ON child.parent_id = tree.comment_id
+)
+UPDATE comment c
+JOIN comment_tree t ON c.comment_id = t.comment_id
+SET c.path = t.path, c.depth = t.depth
+WHERE c.path IS NULL;
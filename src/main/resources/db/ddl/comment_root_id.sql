@@ -0,0 +1,25 @@
+-- 답글의 최상위 댓글 id 컬럼 + 댓글 페이지 조회 인덱스 (user-015)
+-- 운영은 ddl-auto: none 이므로 배포 전에 수동으로 한 번 실행 (Comment 엔티티의 @Index와 같은 이름, 같은 컬럼)
+-- root_id가 비어 있는 기존 답글은 최상위 댓글로 조회되므로 배포 전에 반드시 채워야 함
+
+-- 1. 컬럼과 인덱스
+ALTER TABLE comment
+    ADD COLUMN root_id bigint NULL,
+    ADD INDEX idx_comment_post_root (post_id, root_id, comment_id),
+    ADD INDEX idx_comment_root (root_id, comment_id);
+
+-- 2. 최상위 댓글부터 parent_id를 따라 내려가며 최상위 댓글 id 전달 (최상위 댓글은 NULL 유지)
+-- 스레드가 cte_max_recursion_depth(기본 1000)보다 깊으면 값을 올린 뒤 실행
+WITH RECURSIVE comment_tree (comment_id, root_id) AS (
+    SELECT comment_id, comment_id
+    FROM comment
+    WHERE parent_id IS NULL
+    UNION ALL
+    SELECT child.comment_id, tree.root_id
+    FROM comment child
+    JOIN comment_tree tree ON child.parent_id = tree.comment_id
+)
+UPDATE comment c
+JOIN comment_tree t ON c.comment_id = t.comment_id
+SET c.root_id = t.root_id
+WHERE c.parent_id IS NOT NULL AND c.root_id IS NULL;
@@ -0,0 +1,18 @@
+-- 메일 발송 outbox 테이블 (user-021)
+-- 운영은 ddl-auto: none 이므로 배포 전에 수동으로 한 번 실행 (MailOutbox 엔티티와 같은 컬럼, 같은 인덱스 이름)
+
+CREATE TABLE mail_outbox (
+    mail_outbox_id  bigint        NOT NULL AUTO_INCREMENT,
+    to_email        varchar(255)  NOT NULL,
+    subject         varchar(255)  NOT NULL,
+    body            varchar(2000) NOT NULL,
+    status          varchar(20)   NOT NULL,
+    attempts        int           NOT NULL,
+    next_attempt_at datetime(6)   NOT NULL,
+    last_error      varchar(500)  NULL,
+    sent_at         datetime(6)   NULL,
+    created_at      datetime(6)   NULL,
+    updated_at      datetime(6)   NULL,
+    PRIMARY KEY (mail_outbox_id),
+    INDEX idx_mail_outbox_status_next_attempt (status, next_attempt_at)
+);
@@ -0,0 +1,8 @@
+-- 게시글 피드 keyset 페이지네이션 인덱스 (user-011)
+-- 운영은 ddl-auto: none 이므로 배포 전에 수동으로 한 번 실행 (Post 엔티티의 @Index와 같은 이름, 같은 컬럼)
+-- 이 인덱스가 없으면 피드 조회가 post 전체를 정렬하므로 페이지 깊이와 상관없이 일정한 비용이 보장되지 않음
+-- InnoDB online DDL(ALGORITHM=INPLACE, LOCK=NONE)이라 생성 중에도 읽기/쓰기는 막히지 않음
+
+ALTER TABLE post
+    ADD INDEX idx_post_status_created_at_id (post_status, created_at, post_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,26 @@
+-- 게시글 이미지 순서 컬럼 (user-020)
+-- 운영은 ddl-auto: none 이므로 배포 전에 수동으로 한 번 실행 (애플리케이션을 내린 상태에서 실행)
+-- @OrderColumn(image_order)이 NULL인 행이 있으면 Hibernate가 이미지 목록을 읽지 못하므로 배포 전에 반드시 채워야 함
+-- 기존 post_images에는 행을 구분할 키가 없어서(같은 URL 중복 가능) UPDATE 대신 새 테이블에 순서를 붙여 옮긴 뒤 교체
+
+-- 1. 순서 컬럼과 기본 키를 가진 새 테이블
+CREATE TABLE post_images_new LIKE post_images;
+ALTER TABLE post_images_new
+    ADD COLUMN image_order int NOT NULL,
+    ADD PRIMARY KEY (post_id, image_order),
+    ADD CONSTRAINT fk_post_images_post FOREIGN KEY (post_id) REFERENCES post (post_id);
+
+-- 2. 기존 순서대로 0부터 번호 부여
+-- 기본 키가 없는 InnoDB 테이블은 내부 row id(삽입 순서)로 저장되므로, 지금까지 Hibernate가 읽던 순서 = 테이블 스캔 순서
+-- (ORDER BY가 없는 윈도우 함수는 그 스캔 순서를 따름)
+INSERT INTO post_images_new (post_id, image_url, image_order)
+SELECT post_id, image_url, ROW_NUMBER() OVER (PARTITION BY post_id) - 1
+FROM post_images;
+
+-- 3. 행 수 확인 후 교체 (두 값이 같아야 함)
+SELECT (SELECT COUNT(*) FROM post_images) AS before_count, (SELECT COUNT(*) FROM post_images_new) AS after_count;
+
+RENAME TABLE post_images TO post_images_old, post_images_new TO post_images;
+
+-- 4. 배포 후 이미지가 정상 조회되는 것을 확인한 뒤 삭제
+-- DROP TABLE post_images_old;
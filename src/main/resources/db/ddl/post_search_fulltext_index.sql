@@ -0,0 +1,6 @@
+-- 게시글 검색용 FULLTEXT(ngram) 인덱스 (user-019)
+-- JPA @Index로는 FULLTEXT + WITH PARSER를 만들 수 없고 운영은 ddl-auto: none 이므로 배포 전에 수동으로 한 번 실행
+-- 인덱스를 처음 만들 때는 테이블을 다시 쓰므로(쓰기 대기) 트래픽이 적은 시간에 실행
+-- ngram_token_size(기본 2)는 서버 설정이며, 바꾼 뒤에는 /api/admin/posts/search-index/rebuild로 재구성
+
+ALTER TABLE post ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram;
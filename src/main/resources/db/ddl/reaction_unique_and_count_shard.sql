@@ -0,0 +1,41 @@
+-- 반응 유니크 키 + 반응 수 shard 테이블 (user-013)
+-- 운영은 ddl-auto: none 이므로 배포 전에 수동으로 한 번 실행 (애플리케이션을 내린 상태에서 실행)
+-- 유니크 키가 없으면 ON DUPLICATE KEY UPDATE가 매번 새 행을 넣으므로 같은 요청을 반복할 때마다 좋아요가 늘어남
+
+-- 1. 중복 확인 (같은 사용자, 같은 대상에 반응이 여러 개인 경우)
+SELECT user_id, target_type, target_id, COUNT(*) AS cnt
+FROM reaction
+GROUP BY user_id, target_type, target_id
+HAVING cnt > 1;
+
+-- 2. 중복 제거 (가장 먼저 저장된 반응만 남김)
+DELETE r
+FROM reaction r
+JOIN reaction keep
+  ON keep.user_id = r.user_id
+ AND keep.target_type = r.target_type
+ AND keep.target_id = r.target_id
+ AND keep.id < r.id;
+
+-- 3. 유니크 키
+ALTER TABLE reaction ADD UNIQUE KEY uk_reaction_user_target (user_id, target_type, target_id);
+
+-- 4. shard 테이블
+CREATE TABLE reaction_count_shard (
+    target_type   varchar(20) NOT NULL,
+    target_id     bigint      NOT NULL,
+    shard         int         NOT NULL,
+    like_count    bigint      NOT NULL,
+    dislike_count bigint      NOT NULL,
+    PRIMARY KEY (target_type, target_id, shard)
+);
+
+-- 5. 기존 반응으로 shard 0 채우기
+-- 개수는 shard 합계가 기준이고 ReactionCountReconciler가 post/comment의 like_count, dislike_count를 합계로 덮어쓰므로
+-- 채우지 않으면 기존 좋아요/싫어요 수가 0으로 바뀜
+INSERT INTO reaction_count_shard (target_type, target_id, shard, like_count, dislike_count)
+SELECT target_type, target_id, 0,
+       SUM(reaction_type = 'LIKE'),
+       SUM(reaction_type = 'DISLIKE')
+FROM reaction
+GROUP BY target_type, target_id;
@@ -0,0 +1,16 @@
+-- 회원 아이디 / 이메일 / 닉네임 유니크 키 (user-008)
+-- 운영은 ddl-auto: none 이므로 배포 전에 수동으로 한 번 실행
+-- 회원가입 중복 검사는 이 키에 걸린 INSERT 실패를 제약 이름(uk_user_*)으로 구분하므로(UserRepositoryImpl.translateDuplicate)
+-- 키가 없으면 동시에 같은 값으로 가입할 때 중복 회원이 저장됨
+
+-- 1. 중복 확인 (세 쿼리 모두 결과가 없어야 함)
+-- 결과가 있으면 회원 데이터이므로 자동으로 지우지 않고, 해당 회원을 확인해서 값을 정리한 뒤 2를 실행
+SELECT username, COUNT(*) AS cnt, GROUP_CONCAT(user_id) AS user_ids FROM `user` GROUP BY username HAVING cnt > 1;
+SELECT email,    COUNT(*) AS cnt, GROUP_CONCAT(user_id) AS user_ids FROM `user` GROUP BY email    HAVING cnt > 1;
+SELECT nickname, COUNT(*) AS cnt, GROUP_CONCAT(user_id) AS user_ids FROM `user` GROUP BY nickname HAVING cnt > 1;
+
+-- 2. 유니크 키 (이름은 User 엔티티의 @UniqueConstraint와 같아야 함)
+ALTER TABLE `user`
+    ADD UNIQUE KEY uk_user_username (username),
+    ADD UNIQUE KEY uk_user_email (email),
+    ADD UNIQUE KEY uk_user_nickname (nickname);
@@ -0,0 +1,38 @@
+package com.smallsquare.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClientIpResolverTest {
+
+    private static MockHttpServletRequest request(String forwarded) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", forwarded);
+        return request;
+    }
+
+    @Test
+    void 신뢰하는_프록시가_없으면_헤더를_무시() {
+        ClientIpResolver resolver = new ClientIpResolver(0);
+
+        assertEquals("10.0.0.1", resolver.resolve(request("1.1.1.1")));
+    }
+
+    @Test
+    void 클라이언트가_왼쪽에_넣은_값은_무시하고_프록시가_추가한_값을_사용() {
+        ClientIpResolver resolver = new ClientIpResolver(1);
+
+        assertEquals("2.2.2.2", resolver.resolve(request("9.9.9.9, 2.2.2.2")));
+    }
+
+    @Test
+    void 프록시_수보다_값이_적으면_소켓_주소_사용() {
+        ClientIpResolver resolver = new ClientIpResolver(2);
+
+        assertEquals("3.3.3.3", resolver.resolve(request("3.3.3.3, 172.16.0.2")));
+        assertEquals("10.0.0.1", resolver.resolve(request("3.3.3.3")));
+    }
+}
@@ -0,0 +1,47 @@
+package com.smallsquare.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalTokenBucketRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void capacity만큼_허용한_뒤_거절하고_일정_시간_후_다시_허용() {
+        LocalTokenBucketRateLimiter limiter = new LocalTokenBucketRateLimiter(4, 100);
+        RateLimitPolicy policy = new RateLimitPolicy(3, Duration.ofSeconds(30)); // 10초마다 1개
+
+        // 1. 연속 3번 허용, 4번째 거절 (다음 토큰까지 10초)
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("login:ip:1.1.1.1", policy, 0).isAllowed());
+        }
+        RateLimitResult rejected = limiter.tryAcquire("login:ip:1.1.1.1", policy, 0);
+        assertFalse(rejected.isAllowed());
+        assertEquals(10, rejected.getRetryAfterSeconds());
+
+        // 2. 다른 키는 영향 없음
+        assertTrue(limiter.tryAcquire("login:ip:2.2.2.2", policy, 0).isAllowed());
+
+        // 3. 10초 뒤 1개만 다시 허용
+        assertTrue(limiter.tryAcquire("login:ip:1.1.1.1", policy, 10 * SECOND).isAllowed());
+        assertFalse(limiter.tryAcquire("login:ip:1.1.1.1", policy, 10 * SECOND).isAllowed());
+    }
+
+    @Test
+    void stripe당_최대_키_개수를_넘으면_오래된_버킷부터_제거() {
+        LocalTokenBucketRateLimiter limiter = new LocalTokenBucketRateLimiter(1, 10);
+        RateLimitPolicy policy = new RateLimitPolicy(1, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("login:username:user" + i, policy, 0);
+        }
+
+        assertEquals(10, limiter.size());
+    }
+}
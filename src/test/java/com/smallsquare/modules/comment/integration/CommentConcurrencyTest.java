@@ -0,0 +1,148 @@
+package com.smallsquare.modules.comment.integration;
+
+import com.smallsquare.modules.comment.application.service.CommentService;
+import com.smallsquare.modules.comment.exception.exception.CommentException;
+import com.smallsquare.modules.comment.web.dto.request.CreateCommentReqDto;
+import com.smallsquare.modules.post.domain.entity.Post;
+import com.smallsquare.modules.post.domain.repository.PostRepository;
+import com.smallsquare.modules.post.domain.vo.Content;
+import com.smallsquare.modules.post.domain.vo.Title;
+import com.smallsquare.modules.user.domain.entity.User;
+import com.smallsquare.modules.user.domain.repository.UserRepository;
+import com.smallsquare.modules.user.domain.vo.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CommentConcurrencyTest {
+
+    private static final int COMMENTER_COUNT = 20;
+    private static final int DELETE_REQUEST_COUNT = 5;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User createUser() {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+        return userRepository.save(User.of(
+                new Username("user" + suffix),
+                new Password("password1!", passwordEncoder),
+                new Email(suffix + "@test.com"),
+                new Nickname("n" + suffix),
+                new Name("name")
+        ));
+    }
+
+    private Long write(User user, Post post, Long parentId) {
+        return commentService.createComment(user.getId(), CreateCommentReqDto.builder()
+                .postId(post.getId())
+                .parentId(parentId)
+                .content("content")
+                .build());
+    }
+
+    private long commentCountOf(Post post) {
+        return postRepository.findById(post.getId()).orElseThrow().getCommentCount();
+    }
+
+    @Test
+    void 같은_게시글에_동시에_댓글을_달아도_데드락_없이_모두_집계() throws Exception {
+
+        // given
+        Post post = postRepository.save(Post.of(new Title("title"), new Content("content", null), createUser()));
+        Long root = write(createUser(), post, null);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < COMMENTER_COUNT; i++) {
+            users.add(createUser());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: 절반은 최상위 댓글, 절반은 같은 댓글의 답글
+        for (int i = 0; i < COMMENTER_COUNT; i++) {
+            User user = users.get(i);
+            Long parentId = i % 2 == 0 ? null : root;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return write(user, post, parentId);
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(COMMENTER_COUNT + 1, commentCountOf(post));
+    }
+
+    @Test
+    void 같은_댓글을_동시에_삭제해도_댓글_수는_한_번만_감소() throws Exception {
+
+        // given
+        User user = createUser();
+        Post post = postRepository.save(Post.of(new Title("title"), new Content("content", null), user));
+        write(user, post, null);
+        Long target = write(user, post, null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(DELETE_REQUEST_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < DELETE_REQUEST_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                commentService.deleteComment(user.getId(), target);
+                return null;
+            }));
+        }
+        start.countDown();
+
+        AtomicInteger successCount = new AtomicInteger();
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+                successCount.incrementAndGet();
+            } catch (ExecutionException e) {
+                // 먼저 삭제된 댓글은 찾을 수 없음으로 실패
+                assertInstanceOf(CommentException.class, e.getCause());
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, successCount.get());
+        assertEquals(1, commentCountOf(post));
+    }
+}
@@ -0,0 +1,160 @@
+package com.smallsquare.modules.comment.integration;
+
+import com.smallsquare.modules.comment.application.service.CommentService;
+import com.smallsquare.modules.comment.web.dto.request.CreateCommentReqDto;
+import com.smallsquare.modules.comment.web.dto.response.CommentPageResDto;
+import com.smallsquare.modules.comment.web.dto.response.CommentResDto;
+import com.smallsquare.modules.post.domain.entity.Post;
+import com.smallsquare.modules.post.domain.repository.PostRepository;
+import com.smallsquare.modules.post.domain.vo.Content;
+import com.smallsquare.modules.post.domain.vo.Title;
+import com.smallsquare.modules.user.domain.entity.User;
+import com.smallsquare.modules.user.domain.repository.UserRepository;
+import com.smallsquare.modules.user.domain.vo.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CommentServiceIntegrationTest {
+
+    // CommentService.MAX_REPLIES_PER_ROOT
+    private static final int MAX_REPLIES_PER_ROOT = 50;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+        user = userRepository.save(User.of(
+                new Username("user" + suffix),
+                new Password("password1!", passwordEncoder),
+                new Email(suffix + "@test.com"),
+                new Nickname("n" + suffix),
+                new Name("name")
+        ));
+        post = postRepository.save(Post.of(new Title("title"), new Content("content", null), user));
+    }
+
+    private Long write(Long parentId, String content) {
+        return commentService.createComment(user.getId(), CreateCommentReqDto.builder()
+                .postId(post.getId())
+                .parentId(parentId)
+                .content(content)
+                .build());
+    }
+
+    private List<Long> ids(List<CommentResDto> comments) {
+        return comments.stream().map(CommentResDto::getCommentId).toList();
+    }
+
+    @Test
+    void 답글_트리를_조립하고_최상위_댓글에_전체_답글_수를_채움() {
+
+        // given: root - reply1 - nested, root - reply2
+        Long root = write(null, "root");
+        Long reply1 = write(root, "reply1");
+        Long nested = write(reply1, "nested");
+        Long reply2 = write(root, "reply2");
+
+        // when
+        CommentPageResDto page = commentService.getComments(null, post.getId(), null, 20);
+        List<CommentResDto> thread = commentService.getThread(null, post.getId());
+        CommentResDto subtree = commentService.getSubtree(null, reply1);
+
+        // then
+        CommentResDto top = page.getComments().get(0);
+        assertEquals(List.of(root), ids(page.getComments()));
+        assertEquals(3, top.getReplyCount());
+        assertEquals(List.of(reply1, reply2), ids(top.getReplies()));
+        assertEquals(List.of(nested), ids(top.getReplies().get(0).getReplies()));
+        assertEquals(0, top.getReplies().get(0).getReplyCount());
+
+        assertEquals(List.of(root), ids(thread));
+        assertEquals(3, thread.get(0).getReplyCount());
+
+        assertEquals(reply1, subtree.getCommentId());
+        assertEquals(1, subtree.getReplyCount());
+        assertEquals(List.of(nested), ids(subtree.getReplies()));
+    }
+
+    @Test
+    void 최상위_댓글을_커서로_페이지_조회() {
+
+        // given
+        Long first = write(null, "first");
+        Long second = write(null, "second");
+        Long third = write(null, "third");
+        write(first, "reply");
+
+        // when
+        CommentPageResDto firstPage = commentService.getComments(null, post.getId(), null, 2);
+        CommentPageResDto lastPage = commentService.getComments(null, post.getId(), firstPage.getNextCursorId(), 2);
+
+        // then: 답글은 페이지 크기에 포함되지 않음
+        assertEquals(List.of(first, second), ids(firstPage.getComments()));
+        assertTrue(firstPage.isHasNext());
+        assertEquals(second, firstPage.getNextCursorId());
+
+        assertEquals(List.of(third), ids(lastPage.getComments()));
+        assertFalse(lastPage.isHasNext());
+        assertNull(lastPage.getNextCursorId());
+    }
+
+    @Test
+    void 페이지_조회의_답글은_최상위_댓글마다_개수를_제한하고_답글_수는_전체로_반환() {
+
+        // given: 제한보다 많은 답글 (절반은 다른 답글의 답글)
+        Long root = write(null, "root");
+        Long parent = root;
+        int replyCount = MAX_REPLIES_PER_ROOT + 10;
+        for (int i = 0; i < replyCount; i++) {
+            Long reply = write(i % 2 == 0 ? root : parent, "reply" + i);
+            parent = reply;
+        }
+        Long other = write(null, "other");
+        write(other, "reply");
+
+        // when
+        CommentPageResDto page = commentService.getComments(null, post.getId(), null, 20);
+
+        // then
+        CommentResDto top = page.getComments().get(0);
+        assertEquals(replyCount, top.getReplyCount());
+        assertEquals(MAX_REPLIES_PER_ROOT, countNodes(top.getReplies()));
+
+        CommentResDto otherTop = page.getComments().get(1);
+        assertEquals(1, otherTop.getReplyCount());
+        assertEquals(1, countNodes(otherTop.getReplies()));
+    }
+
+    private int countNodes(List<CommentResDto> comments) {
+        int count = comments.size();
+        for (CommentResDto comment : comments) {
+            count += countNodes(comment.getReplies());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,44 @@
+package com.smallsquare.modules.comment.vo;
+
+import com.smallsquare.modules.comment.domain.vo.CommentPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentPathTest {
+
+    @Test
+    void path_문자열_정렬이_스레드_순서와_같음() {
+        CommentPath root = CommentPath.root(35L);
+        CommentPath firstReply = root.child(36L);
+        CommentPath nestedReply = firstReply.child(1_000_000L);
+        CommentPath secondReply = root.child(37L);
+        CommentPath nextRoot = CommentPath.root(40L);
+
+        List<String> paths = new ArrayList<>(List.of(
+                nextRoot.getPath(), secondReply.getPath(), nestedReply.getPath(), root.getPath(), firstReply.getPath()));
+        paths.sort(null);
+
+        assertEquals(List.of(root.getPath(), firstReply.getPath(), nestedReply.getPath(),
+                secondReply.getPath(), nextRoot.getPath()), paths);
+        assertEquals(2, nestedReply.getDepth());
+        assertTrue(nestedReply.getPath().startsWith(firstReply.getPath()));
+        assertFalse(secondReply.getPath().startsWith(firstReply.getPath()));
+    }
+
+    @Test
+    void 최대_깊이에서는_답글_불가() {
+        CommentPath path = CommentPath.root(1L);
+        for (long id = 2; path.canHaveChild(); id++) {
+            path = path.child(id);
+        }
+
+        assertEquals(CommentPath.MAX_DEPTH, path.getDepth());
+        assertEquals(CommentPath.SEGMENT_LENGTH * (CommentPath.MAX_DEPTH + 1), path.getPath().length());
+    }
+}
@@ -0,0 +1,38 @@
+package com.smallsquare.modules.post.search;
+
+import com.smallsquare.modules.post.domain.vo.SearchKeyword;
+import com.smallsquare.modules.post.exception.exception.PostException;
+import com.smallsquare.modules.post.infrastructure.search.SearchHighlighter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchHighlighterTest {
+
+    @Test
+    void 검색어는_escape_후_em으로_감쌈() {
+        String highlighted = SearchHighlighter.highlight("<b>Spring</b> 게시판 spring", List.of("spring", "게시판"));
+
+        assertEquals("&lt;b&gt;<em>Spring</em>&lt;/b&gt; <em>게시판</em> <em>spring</em>", highlighted);
+    }
+
+    @Test
+    void 요약은_첫_일치_위치_주변만_반환() {
+        String content = "가".repeat(100) + "스프링" + "나".repeat(100);
+
+        String snippet = SearchHighlighter.snippet(content, List.of("스프링"), 60);
+
+        assertEquals("..." + "가".repeat(40) + "<em>스프링</em>" + "나".repeat(17) + "...", snippet);
+    }
+
+    @Test
+    void 검색어는_연산자를_제거하고_모든_단어를_필수로_검색() {
+        SearchKeyword keyword = new SearchKeyword("+스프링 -게시판* a \"부트\"");
+
+        assertEquals("+\"스프링\" +\"게시판\" +\"부트\"", keyword.toBooleanQuery());
+        assertThrows(PostException.class, () -> new SearchKeyword("a b"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.smallsquare.modules.reaction.integration;
+
+import com.smallsquare.common.enums.TargetType;
+import com.smallsquare.modules.post.domain.entity.Post;
+import com.smallsquare.modules.post.domain.repository.PostRepository;
+import com.smallsquare.modules.post.domain.vo.Content;
+import com.smallsquare.modules.post.domain.vo.Title;
+import com.smallsquare.modules.reaction.application.service.ReactionService;
+import com.smallsquare.modules.reaction.domain.enums.ReactionType;
+import com.smallsquare.modules.reaction.web.dto.request.ReactionReqDto;
+import com.smallsquare.modules.reaction.web.dto.response.ReactionResDto;
+import com.smallsquare.modules.user.domain.entity.User;
+import com.smallsquare.modules.user.domain.repository.UserRepository;
+import com.smallsquare.modules.user.domain.vo.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReactionConcurrencyTest {
+
+    private static final int USER_COUNT = 20;
+    private static final int REPEAT_PER_USER = 3;
+
+    @Autowired
+    private ReactionService reactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User createUser() {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+        return userRepository.save(User.of(
+                new Username("user" + suffix),
+                new Password("password1!", passwordEncoder),
+                new Email(suffix + "@test.com"),
+                new Nickname("n" + suffix),
+                new Name("name")
+        ));
+    }
+
+    @Test
+    void 여러_사용자가_동시에_같은_좋아요를_반복해도_사용자당_한_번만_집계() throws Exception {
+
+        // given
+        Post post = postRepository.save(Post.of(new Title("title"), new Content("content", null), createUser()));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(createUser());
+        }
+
+        int taskCount = USER_COUNT * REPEAT_PER_USER;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: 사용자마다 같은 좋아요를 여러 번 동시에 요청
+        for (int i = 0; i < taskCount; i++) {
+            User user = users.get(i % USER_COUNT);
+            futures.add(executor.submit(() -> {
+                start.await();
+                reactionService.react(user.getId(), ReactionReqDto.builder()
+                        .targetType(TargetType.POST)
+                        .targetId(post.getId())
+                        .reactionType(ReactionType.LIKE)
+                        .build());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then: 한 명은 싫어요로 변경, 한 명은 취소
+        reactionService.react(users.get(0).getId(), ReactionReqDto.builder()
+                .targetType(TargetType.POST)
+                .targetId(post.getId())
+                .reactionType(ReactionType.DISLIKE)
+                .build());
+        ReactionResDto resDto = reactionService.cancel(users.get(1).getId(), TargetType.POST, post.getId());
+
+        assertEquals(USER_COUNT - 2, resDto.getLikeCount());
+        assertEquals(1, resDto.getDislikeCount());
+    }
+}
@@ -0,0 +1,88 @@
+package com.smallsquare.modules.user.encoder;
+
+import com.smallsquare.modules.user.exception.errorCode.UserErrorCode;
+import com.smallsquare.modules.user.exception.exception.UserException;
+import com.smallsquare.modules.user.infrastructure.auth.encoder.ExecutorPasswordEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutorPasswordEncoderTest {
+
+    private static PasswordEncoder delegatingEncoder(int strength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    @Test
+    void 대기열이_가득_차면_429로_거절() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        ExecutorPasswordEncoder encoder = new ExecutorPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(5));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            // 1. 스레드 1개 점유 + 대기열 1개 채우기
+            callers.submit(() -> encoder.encode("password1!"));
+            started.await(5, TimeUnit.SECONDS);
+            callers.submit(() -> encoder.encode("password2!"));
+            Thread.sleep(100);
+
+            // 2. 세 번째 요청은 즉시 거절
+            UserException e = assertThrows(UserException.class, () -> encoder.encode("password3!"));
+            assertEquals(UserErrorCode.PASSWORD_HASHING_BUSY, e.getErrorCode());
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void 접두사_없는_기존_해시와_낮은_cost_해시는_재해시_대상() {
+        ExecutorPasswordEncoder encoder = new ExecutorPasswordEncoder(delegatingEncoder(6), 2, 8, Duration.ofSeconds(5));
+
+        try {
+            String legacyHash = new BCryptPasswordEncoder(4).encode("password1!");
+            String lowCostHash = "{bcrypt}" + legacyHash;
+            String currentHash = encoder.encode("password1!");
+
+            assertTrue(encoder.matches("password1!", legacyHash));
+            assertTrue(encoder.upgradeEncoding(legacyHash));
+            assertTrue(encoder.upgradeEncoding(lowCostHash));
+
+            assertTrue(currentHash.startsWith("{bcrypt}"));
+            assertTrue(encoder.matches("password1!", currentHash));
+            assertFalse(encoder.upgradeEncoding(currentHash));
+        } finally {
+            encoder.destroy();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.smallsquare.modules.user.integration;
+
+import com.smallsquare.modules.user.domain.enums.Role;
+import com.smallsquare.modules.user.infrastructure.jwt.JwtProvider;
+import com.smallsquare.modules.user.infrastructure.jwt.JwtUtil;
+import com.smallsquare.modules.user.infrastructure.jwt.VerifiedToken;
+import com.smallsquare.modules.user.infrastructure.redis.RedisService;
+import com.smallsquare.modules.user.infrastructure.redis.SessionRevocation;
+import com.smallsquare.modules.user.web.dto.request.JwtTokenReqDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class RefreshTokenRotationConcurrencyTest {
+
+    private static final int THREAD_COUNT = 64;
+
+    @Autowired
+    private RedisService redisService;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String createRefreshToken() {
+        JwtTokenReqDto reqDto = JwtTokenReqDto.builder()
+                .userId(1L)
+                .username("username1")
+                .nickname("nickname1")
+                .email("email1@test.com")
+                .name("name")
+                .role(Role.USER)
+                .build();
+        return jwtProvider.createRefreshToken(reqDto);
+    }
+
+    @Test
+    void 같은_리프레시_토큰으로_동시에_재발급하면_하나만_성공() throws Exception {
+
+        // given
+        String refreshToken = createRefreshToken();
+        VerifiedToken verifiedToken = jwtUtil.parseVerifiedToken(refreshToken);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: 모든 스레드가 준비된 뒤 동시에 rotation 요청
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                if (redisService.rotateRefreshToken(verifiedToken, refreshToken)) {
+                    successCount.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        ready.await();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, successCount.get());
+        assertFalse(redisService.rotateRefreshToken(verifiedToken, refreshToken));
+    }
+
+    @Test
+    void 로그아웃된_리프레시_토큰은_재발급_실패() {
+
+        // given
+        String refreshToken = createRefreshToken();
+        VerifiedToken verifiedToken = jwtUtil.parseVerifiedToken(refreshToken);
+
+        // when
+        redisService.revokeSessions(List.of(SessionRevocation.logout(verifiedToken, verifiedToken)));
+
+        // then
+        assertFalse(redisService.rotateRefreshToken(verifiedToken, refreshToken));
+    }
+}
@@ -0,0 +1,89 @@
+package com.smallsquare.modules.user.integration;
+
+import com.smallsquare.modules.user.application.service.UserService;
+import com.smallsquare.modules.user.exception.errorCode.UserErrorCode;
+import com.smallsquare.modules.user.exception.exception.UserException;
+import com.smallsquare.modules.user.infrastructure.repository.JpaUserRepository;
+import com.smallsquare.modules.user.web.dto.request.UserSignupReqDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SignupConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaUserRepository.deleteAll();
+    }
+
+    @Test
+    void 같은_아이디로_동시에_가입하면_하나만_성공하고_나머지는_중복_에러() throws Exception {
+
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger duplicatedCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: username만 같고 나머지는 다른 가입 요청을 동시에 실행
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            UserSignupReqDto reqDto = UserSignupReqDto.builder()
+                    .username("username1")
+                    .password("password1!")
+                    .checkPassword("password1!")
+                    .nickname("nickname" + i)
+                    .email("email" + i + "@test.com")
+                    .name("name")
+                    .build();
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                try {
+                    userService.signup(reqDto);
+                    successCount.incrementAndGet();
+                } catch (UserException e) {
+                    if (e.getErrorCode() == UserErrorCode.DUPLICATED_USERNAME) {
+                        duplicatedCount.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        ready.await();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, successCount.get());
+        assertEquals(THREAD_COUNT - 1, duplicatedCount.get());
+        assertEquals(1, jpaUserRepository.count());
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,7 +55,7 @@ public class UserServiceIntegrationTest {
                 .name("name1")
                 .build();
 
-        redisService.set("verifyEmail:email:" + reqDto.getEmail(), "true", 5L);
+        redisService.set("verifyEmail:email:" + reqDto.getEmail(), "true", Duration.ofMinutes(5));
 
         userService.signup(reqDto);
         return jpaUserRepository.findByUsername(username).get().getId();
@@ -74,7 +75,7 @@ public class UserServiceIntegrationTest {
                 .name("name1")
                 .build();
 
-        redisService.set("verifyEmail:email:" + reqDto.getEmail(), "true", 5L);
+        redisService.set("verifyEmail:email:" + reqDto.getEmail(), "true", Duration.ofMinutes(5));
         // when
         userService.signup(reqDto);
         Optional<User> savedUser = jpaUserRepository.findByUsername("username1");
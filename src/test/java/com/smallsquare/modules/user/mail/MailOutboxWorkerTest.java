@@ -0,0 +1,90 @@
+package com.smallsquare.modules.user.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.smallsquare.modules.user.domain.repository.MailOutboxRepository;
+import com.smallsquare.modules.user.domain.vo.ClaimedMail;
+import com.smallsquare.modules.user.infrastructure.mail.MailOutboxWorker;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * GreenMail(프로세스 내 SMTP 서버)로 outbox 워커의 발송/재시도 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class MailOutboxWorkerTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    private MailOutboxWorker worker(int port, int maxAttempts) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        return new MailOutboxWorker(mailOutboxRepository, mailSender, "noreply@smallsquare.com",
+                50, 2, maxAttempts, 1000, 10);
+    }
+
+    @Test
+    void 가져온_메일을_모두_발송하고_SENT로_변경() {
+        List<ClaimedMail> mails = List.of(
+                new ClaimedMail(1L, "a@test.com", "제목1", "본문1", 1),
+                new ClaimedMail(2L, "b@test.com", "제목2", "본문2", 1),
+                new ClaimedMail(3L, "c@test.com", "제목3", "본문3", 1));
+        when(mailOutboxRepository.claim(anyInt(), any())).thenReturn(mails);
+
+        worker(ServerSetupTest.SMTP.getPort(), 5).drain();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(3, received.length);
+        assertTrue(List.of("본문1", "본문2", "본문3").contains(GreenMailUtil.getBody(received[0]).trim()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> sentIds = ArgumentCaptor.forClass(Collection.class);
+        verify(mailOutboxRepository, times(2)).markSent(sentIds.capture());
+        assertEquals(3, sentIds.getAllValues().stream().mapToInt(Collection::size).sum());
+        verify(mailOutboxRepository, never()).markRetry(any(), any(), anyString());
+    }
+
+    @Test
+    void SMTP_연결_실패시_백오프_후_재시도_최대_횟수면_FAILED() {
+        LocalDateTime before = LocalDateTime.now();
+        when(mailOutboxRepository.claim(anyInt(), any())).thenReturn(List.of(
+                new ClaimedMail(1L, "a@test.com", "제목", "본문", 1),
+                new ClaimedMail(2L, "b@test.com", "제목", "본문", 3)));
+
+        // 사용하지 않는 포트로 연결 실패
+        worker(ServerSetupTest.SMTP.getPort() + 7, 3).drain();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(mailOutboxRepository).markRetry(eq(1L), nextAttemptAt.capture(), anyString());
+        assertTrue(nextAttemptAt.getValue().isAfter(before.plusNanos(999_000_000)));
+        verify(mailOutboxRepository).markFailed(eq(2L), anyString());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+}
@@ -0,0 +1,80 @@
+package com.smallsquare.modules.user.mail;
+
+import com.smallsquare.modules.user.domain.repository.MailOutboxRepository;
+import com.smallsquare.modules.user.infrastructure.mail.MailRateLimiter;
+import com.smallsquare.modules.user.infrastructure.mail.MailService;
+import com.smallsquare.modules.user.infrastructure.redis.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 주소로 동시에 들어온 메일 요청이 한 번만 발송되는지 확인 (Redis는 메모리 Map으로 대체)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MailServiceDedupTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private MailRateLimiter mailRateLimiter;
+
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(redisService.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> store.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(redisService.get(anyString())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(redisService).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void 동시에_들어온_같은_주소_요청은_한_번만_발송() throws Exception {
+        MailService mailService = new MailService(mailOutboxRepository, redisService, mailRateLimiter);
+        int requests = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < requests; i++) {
+            String email = (i % 2 == 0) ? "user@test.com" : "USER@test.com";
+            executor.submit(() -> {
+                start.await();
+                mailService.sendVerifyEmail(email, "127.0.0.1");
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        verify(mailOutboxRepository, times(1)).save(any());
+        verify(mailRateLimiter, times(requests)).checkIp("127.0.0.1");
+        verify(mailRateLimiter, times(1)).checkEmail("user@test.com");
+    }
+}
@@ -0,0 +1,196 @@
+package com.smallsquare.modules.user.redis;
+
+import com.smallsquare.modules.user.infrastructure.jwt.TokenHash;
+import com.smallsquare.modules.user.infrastructure.jwt.VerifiedToken;
+import com.smallsquare.modules.user.infrastructure.redis.LettuceTokenStore;
+import com.smallsquare.modules.user.infrastructure.redis.RedisService;
+import com.smallsquare.modules.user.infrastructure.redis.SessionRevocation;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis에 전달되는 TTL 확인
+ * 1. 저장 TTL(Duration)과 블랙리스트 TTL(ms)이 단위 변환 없이 그대로 전달되는지
+ * 2. 하루 동안의 Refresh Token 재발급을 시뮬레이션해서 블랙리스트 키 개수가 일정 수준 이하로 유지되는지
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisServiceTtlTest {
+
+    private static final Duration REFRESH_TOKEN_LIFETIME = Duration.ofHours(1);
+    private static final Duration SIMULATED_PERIOD = Duration.ofDays(1);
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisAsyncCommands<String, String> commands;
+
+    private RedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        // 실제 연결 대신 mock 명령 객체를 사용하는 TokenStore
+        LettuceTokenStore tokenStore = new LettuceTokenStore(null) {
+            @Override
+            protected RedisAsyncCommands<String, String> commands() {
+                return commands;
+            }
+        };
+        redisService = new RedisService(redisTemplate, tokenStore);
+    }
+
+    private VerifiedToken refreshTokenExpiringIn(Duration remaining) {
+        Claims claims = Jwts.claims()
+                .id(UUID.randomUUID().toString())
+                .subject("1")
+                .add("type", "refresh")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + remaining.toMillis()))
+                .build();
+        return VerifiedToken.from(claims, TokenHash.of(claims.getId()));
+    }
+
+    // 스크립트 인자(varargs)에서 TTL(ms) 추출 (마지막 ARGV)
+    private static long ttlMillisOf(Object[] arguments) {
+        List<Object> flat = new ArrayList<>();
+        for (Object argument : arguments) {
+            if (argument instanceof Object[] array) {
+                flat.addAll(List.of(array));
+            } else {
+                flat.add(argument);
+            }
+        }
+        return Long.parseLong((String) flat.get(flat.size() - 1));
+    }
+
+    @Test
+    void 하루_동안_재발급해도_블랙리스트_키_개수가_유효기간_내_재발급_수를_넘지_않음() {
+
+        // given
+        List<Long> capturedTtls = new ArrayList<>();
+        RedisFuture<Long> rotated = mock(RedisFuture.class);
+        when(rotated.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(1L));
+        when(commands.<Long>evalsha(anyString(), eq(ScriptOutputType.INTEGER), any(String[].class), any(String[].class)))
+                .thenAnswer(invocation -> {
+                    capturedTtls.add(ttlMillisOf(invocation.getArguments()));
+                    return rotated;
+                });
+
+        Random random = new Random(42);
+        PriorityQueue<Long> liveKeyExpiries = new PriorityQueue<>();
+        long maxLiveKeys = 0;
+
+        // when: 10초마다 남은 유효기간이 제각각인 Refresh Token으로 재발급
+        for (long now = 0; now < SIMULATED_PERIOD.toMillis(); now += REFRESH_INTERVAL.toMillis()) {
+            Duration remaining = Duration.ofMillis(1 + (long) (random.nextDouble() * REFRESH_TOKEN_LIFETIME.toMillis()));
+            VerifiedToken token = refreshTokenExpiringIn(remaining);
+
+            redisService.rotateRefreshToken(token, "token");
+            long ttl = capturedTtls.get(capturedTtls.size() - 1);
+
+            // then 1: TTL은 토큰의 남은 유효기간을 넘지 않고, 밀리초 단위 그대로 전달됨 (초 단위로 바뀌면 1000배 작아짐)
+            assertTrue(ttl <= remaining.toMillis(), "TTL(" + ttl + "ms)이 토큰 유효기간(" + remaining.toMillis() + "ms)보다 김");
+            assertTrue(ttl >= remaining.toMillis() - 2000, "TTL(" + ttl + "ms)이 토큰 유효기간(" + remaining.toMillis() + "ms)보다 2초 이상 짧음");
+
+            // 시뮬레이션 시각 기준으로 만료된 키 정리 후 현재 키 개수 기록
+            liveKeyExpiries.add(now + ttl);
+            while (!liveKeyExpiries.isEmpty() && liveKeyExpiries.peek() <= now) {
+                liveKeyExpiries.poll();
+            }
+            maxLiveKeys = Math.max(maxLiveKeys, liveKeyExpiries.size());
+        }
+
+        // then 2: 동시에 살아있는 키는 Refresh Token 유효기간 동안의 재발급 수 이하
+        long bound = REFRESH_TOKEN_LIFETIME.toMillis() / REFRESH_INTERVAL.toMillis() + 1;
+        assertTrue(maxLiveKeys <= bound, "블랙리스트 키 " + maxLiveKeys + "개가 상한 " + bound + "개를 초과");
+    }
+
+    @Test
+    void 이미_만료된_토큰은_블랙리스트에_저장하지_않음() {
+
+        // given
+        VerifiedToken expired = refreshTokenExpiringIn(Duration.ofSeconds(-1));
+
+        // when
+        redisService.revokeSessions(List.of(SessionRevocation.logout(expired, expired)));
+
+        // then: PSETEX에 0 이하의 TTL을 보내지 않음
+        verify(commands, never()).psetex(anyString(), anyLong(), anyString());
+    }
+
+    @Test
+    void 저장할_때_전달한_TTL이_단위_변환_없이_그대로_전달됨() {
+
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        redisService.set("key", "value", Duration.ofMinutes(5));
+
+        // then: 5분 = 300초 (분/초 단위를 섞으면 18000초나 5초가 됨)
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        verify(valueOperations).set(eq("key"), eq("value"), ttl.capture());
+        assertEquals(300, ttl.getValue().toSeconds());
+    }
+
+    @Test
+    void 로그아웃한_토큰의_블랙리스트_TTL은_밀리초_단위의_남은_유효기간() {
+
+        // given: 10분 남은 토큰
+        RedisFuture<String> stored = mock(RedisFuture.class);
+        when(stored.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture("OK"));
+        RedisFuture<Long> published = mock(RedisFuture.class);
+        when(published.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(1L));
+        when(commands.psetex(anyString(), anyLong(), anyString())).thenReturn(stored);
+        when(commands.publish(anyString(), anyString())).thenReturn(published);
+
+        VerifiedToken token = refreshTokenExpiringIn(Duration.ofMinutes(10));
+
+        // when
+        redisService.revokeSessions(List.of(SessionRevocation.logout(token, token)));
+
+        // then: PSETEX에 전달된 값이 600초(600000ms)를 넘지 않고, 테스트 실행 시간 이상 줄어들지 않음
+        ArgumentCaptor<Long> ttlMillis = ArgumentCaptor.forClass(Long.class);
+        verify(commands, times(2)).psetex(anyString(), ttlMillis.capture(), anyString());
+        for (long value : ttlMillis.getAllValues()) {
+            assertTrue(value <= Duration.ofMinutes(10).toMillis(), "TTL " + value + "ms가 10분보다 김");
+            assertTrue(value > Duration.ofMinutes(9).toMillis(), "TTL " + value + "ms가 9분보다 짧음");
+        }
+    }
+}